@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.5.6"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "demo"
@@ -30,6 +31,11 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-validation")
 
+    // --- Metrics (Actuator + Prometheus, Hibernate Statistics 바인딩) ---
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
+    runtimeOnly("org.hibernate.orm:hibernate-micrometer")
+
     // --- Security / JWT ---
     implementation("org.springframework.boot:spring-boot-starter-security")
     // JWT 검증(리소스 서버). Nimbus 기반, Boot가 버전 관리
@@ -54,8 +60,57 @@ dependencies {
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("org.springframework.security:spring-security-test")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+    // 부하 생성기 지연 분포 (src/test/.../loadtest)
+    testImplementation("org.hdrhistogram:HdrHistogram:2.2.2")
+
+    // --- JMH (src/jmh) ---
+    jmh("org.openjdk.jmh:jmh-core:1.37")
+    jmhAnnotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+    jmhRuntimeOnly("com.h2database:h2")
 }
 
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+// IDENTITY vs 시퀀스(pooled-lo) id 생성 JDBC 문장 수 비교 (src/test/.../benchmark)
+tasks.register<JavaExec>("idStrategyBenchmark") {
+    group = "verification"
+    description = "Compares JDBC statement counts of IDENTITY and pooled-ids ID generation"
+    classpath = sourceSets["test"].runtimeClasspath
+    mainClass = "demo.cafemenu.benchmark.IdStrategyStatementBenchmark"
+}
+
+// 플랫폼 스레드 vs virtual-threads 프로필 처리량/p99 비교 (src/test/.../benchmark)
+tasks.register<JavaExec>("threadModeBenchmark") {
+    group = "verification"
+    description = "Compares throughput and p99 of mixed catalog/cart traffic on platform and virtual threads"
+    classpath = sourceSets["test"].runtimeClasspath
+    mainClass = "demo.cafemenu.benchmark.ThreadModeBenchmark"
+    systemProperties(System.getProperties().filterKeys { it.toString().startsWith("bench.") }
+        .mapKeys { it.key.toString() })
+}
+
+// 종단 간 부하 생성기: 내장 H2 로 앱 기동 → 시나리오 혼합 부하 → 엔드포인트별 HdrHistogram (src/test/.../loadtest)
+// 예: ./gradlew loadTest -Dload.clients=200 -Dload.duration=60 -Dload.mix=browse:70,add:20,checkout:10
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "Runs the scripted end-to-end load mix against an in-memory instance and reports latency percentiles"
+    classpath = sourceSets["test"].runtimeClasspath
+    mainClass = "demo.cafemenu.loadtest.LoadGenerator"
+    workingDir = projectDir
+    systemProperties(System.getProperties().filterKeys { it.toString().startsWith("load.") }
+        .mapKeys { it.key.toString() })
+}
+
+// JMH 마이크로벤치마크 (src/jmh): ./gradlew jmh [-PjmhIncludes=OrderBenchmark]
+// 결과는 버전별 JSON 으로 남겨 릴리스 간 diff
+jmh {
+    jmhVersion = "1.37"
+    includes = listOfNotNull(project.findProperty("jmhIncludes") as String?)
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/jmh-${project.version}.json")
+}
@@ -0,0 +1,93 @@
+package demo.cafemenu.jmh;
+
+import demo.cafemenu.CafeMenuApplication;
+import demo.cafemenu.domain.order.dto.CheckoutRequest;
+import demo.cafemenu.domain.order.service.OrderService;
+import demo.cafemenu.domain.product.entity.Product;
+import demo.cafemenu.domain.product.repository.ProductRepository;
+import demo.cafemenu.domain.user.entity.User;
+import demo.cafemenu.domain.user.reposiitory.UserRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 내장 H2 위에서 OrderService 전체 경로 (트랜잭션 + JPA + SQL 포함).
+ * - addOrderItem: 장바구니 담기 1회 (upsert + 총액 증분)
+ * - addThenCheckout: CART_LINES 개 담기 → checkoutAllPending (이번 배송 배치일 PAID 로 머지되는 경로)
+ * 컨텍스트는 trial 마다 한 번 기동, SQL 로그는 끔
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CheckoutBenchmark {
+
+    private static final int PRODUCTS = 100;
+    private static final int CART_LINES = 5;
+    private static final CheckoutRequest CHECKOUT = new CheckoutRequest("Seoul", "12345");
+
+    private ConfigurableApplicationContext ctx;
+    private OrderService orderService;
+    private List<Long> productIds;
+    private Long userId;
+
+    @Setup
+    public void setUp() {
+        ctx = new SpringApplicationBuilder(CafeMenuApplication.class)
+            .properties(
+                "server.port=0",
+                "management.server.port=0",
+                "spring.datasource.url=jdbc:h2:mem:jmh_checkout;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "spring.jpa.show-sql=false",
+                "spring.output.ansi.enabled=never",
+                "logging.level.root=warn",
+                "logging.level.org.hibernate.SQL=warn",
+                "logging.level.org.hibernate.orm.jdbc.bind=warn",
+                "app.jwt.secret=benchmark-secret-benchmark-secret-benchmark-secret-0123456789")
+            .run();
+        orderService = ctx.getBean(OrderService.class);
+
+        ProductRepository productRepository = ctx.getBean(ProductRepository.class);
+        List<Product> products = new ArrayList<>(PRODUCTS);
+        for (int i = 0; i < PRODUCTS; i++) {
+            products.add(Product.builder().name("jmh-" + i).price(1000 + i).description("jmh").build());
+        }
+        productIds = productRepository.saveAll(products).stream().map(Product::getId).toList();
+
+        userId = ctx.getBean(UserRepository.class).save(User.builder()
+            .email("jmh@test.com").password("x").name("jmh").build()).getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        ctx.close();
+    }
+
+    @Benchmark
+    public void addOrderItem() {
+        orderService.addOrderItem(userId, randomProduct());
+    }
+
+    @Benchmark
+    public void addThenCheckout() {
+        for (int i = 0; i < CART_LINES; i++) {
+            orderService.addOrderItem(userId, randomProduct());
+        }
+        orderService.checkoutAllPending(userId, CHECKOUT);
+    }
+
+    private Long randomProduct() {
+        return productIds.get(ThreadLocalRandom.current().nextInt(productIds.size()));
+    }
+}
@@ -0,0 +1,99 @@
+package demo.cafemenu.jmh;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import demo.cafemenu.domain.order.dto.OrderDto;
+import demo.cafemenu.domain.order.entity.Order;
+import demo.cafemenu.domain.product.dto.ProductResponse;
+import demo.cafemenu.domain.product.entity.Product;
+import demo.cafemenu.domain.user.entity.User;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 응답 DTO 변환 + Jackson 직렬화 비용.
+ * - 상품 목록: Product → ProductResponse, List<ProductResponse> 직렬화 (/api/user/beans)
+ * - 주문: Order → OrderDto.withItems (상품명 맵 조회), List<OrderDto> 직렬화 (/api/user/order/cart)
+ * ObjectMapper 는 Boot 기본값과 같게 날짜를 ISO 문자열로 직렬화
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DtoBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int size;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private List<Product> products;
+    private List<ProductResponse> productResponses;
+    private List<Order> orders;
+    private Map<Long, String> productNames;
+    private List<OrderDto> orderDtos;
+
+    @Setup
+    public void setUp() {
+        products = new ArrayList<>(size);
+        productNames = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            products.add(Product.builder().id((long) i).name("상품 " + i).price(1000 + i)
+                .description("설명 " + i).build());
+            productNames.put((long) i, "상품 " + i);
+        }
+        productResponses = toProductResponses();
+
+        // 주문 size/10 건, 건당 품목 10개
+        User user = User.builder().id(1L).email("bench@test.com").password("x").name("bench").build();
+        orders = new ArrayList<>();
+        for (int o = 0; o < Math.max(1, size / 10); o++) {
+            Order order = Order.builder().id((long) o).user(user).batchDate(LocalDate.now().minusDays(o)).build();
+            for (int i = 0; i < 10; i++) {
+                order.addItem((long) ((o * 10 + i) % size), 1000 + i, 1 + i % 3);
+            }
+            orders.add(order);
+        }
+        orderDtos = toOrderDtos();
+    }
+
+    @Benchmark
+    public List<ProductResponse> toProductResponses() {
+        return products.stream().map(ProductResponse::from).toList();
+    }
+
+    @Benchmark
+    public byte[] serializeProducts() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(productResponses);
+    }
+
+    @Benchmark
+    public List<OrderDto> toOrderDtos() {
+        return orders.stream().map(order -> OrderDto.withItems(order, productNames)).toList();
+    }
+
+    @Benchmark
+    public byte[] serializeOrders() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(orderDtos);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerializeOrders() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(toOrderDtos());
+    }
+}
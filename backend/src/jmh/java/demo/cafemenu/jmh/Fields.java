@@ -0,0 +1,20 @@
+package demo.cafemenu.jmh;
+
+import java.lang.reflect.Field;
+import org.springframework.util.ReflectionUtils;
+
+/** @Value 로 주입되는 private 필드를 컨텍스트 없이 채우기 위한 도우미 */
+final class Fields {
+
+    private Fields() {
+    }
+
+    static void set(Object target, String name, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), name);
+        if (field == null) {
+            throw new IllegalArgumentException(target.getClass().getSimpleName() + " has no field " + name);
+        }
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
@@ -0,0 +1,92 @@
+package demo.cafemenu.jmh;
+
+import demo.cafemenu.domain.user.entity.Role;
+import demo.cafemenu.domain.user.entity.User;
+import demo.cafemenu.global.jwt.JwtTokenProvider;
+import demo.cafemenu.global.jwt.RevokedTokenRepository;
+import demo.cafemenu.global.jwt.TokenRevocationList;
+import demo.cafemenu.global.jwt.VerifiedTokenCache;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.Authentication;
+
+/**
+ * JwtTokenProvider 발급/검증 비용.
+ * - createAccessToken: 서명 포함 발급
+ * - authenticateCold: 캐시 없이 매번 서명 검증 + 파싱 + Authentication 생성 (캐시 크기 0)
+ * - authenticateCached: 검증된 토큰 캐시 적중 (SHA-256 digest + 폐기 목록 확인만)
+ * Spring 컨텍스트 없이 직접 조립 (폐기 목록 저장소는 빈 목록을 돌려주는 프록시)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret-0123456789";
+
+    private User user;
+    private JwtTokenProvider cold;
+    private JwtTokenProvider cached;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        user = User.builder().id(1L).email("bench@test.com").password("x").name("bench").role(Role.ROLE_USER).build();
+        cold = provider(0);
+        cached = provider(10_000);
+        token = cached.createAccessToken(user);
+        cached.authenticate(token);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return cached.createAccessToken(user);
+    }
+
+    @Benchmark
+    public Authentication authenticateCold() {
+        return cold.authenticate(token);
+    }
+
+    @Benchmark
+    public Authentication authenticateCached() {
+        return cached.authenticate(token);
+    }
+
+    private static JwtTokenProvider provider(int cacheEntries) {
+        VerifiedTokenCache cache = new VerifiedTokenCache();
+        Fields.set(cache, "maxEntries", cacheEntries);
+
+        TokenRevocationList revocationList = new TokenRevocationList(emptyRevokedTokens());
+        Fields.set(revocationList, "expectedInsertions", 100_000);
+        Fields.set(revocationList, "falsePositiveRate", 0.01);
+        revocationList.load();
+
+        JwtTokenProvider provider = new JwtTokenProvider(cache, revocationList);
+        Fields.set(provider, "secretKey", SECRET);
+        provider.init();
+        return provider;
+    }
+
+    private static RevokedTokenRepository emptyRevokedTokens() {
+        return (RevokedTokenRepository) Proxy.newProxyInstance(
+            RevokedTokenRepository.class.getClassLoader(),
+            new Class<?>[]{RevokedTokenRepository.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "findByExpiresAtAfter" -> List.of();
+                case "deleteExpired" -> 0;
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                case "toString" -> "emptyRevokedTokens";
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+    }
+}
@@ -0,0 +1,111 @@
+package demo.cafemenu.jmh;
+
+import demo.cafemenu.domain.order.dto.CartOperation;
+import demo.cafemenu.domain.order.entity.Order;
+import demo.cafemenu.domain.order.entity.OrderItem;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Order 품목 연산 비용 (라인 수별).
+ * - recalcTotal: 전체 재합산
+ * - findItem: productId 조회 (16 라인 미만 순회, 이상 인덱스)
+ * - addExisting / changeQuantity: 장바구니 담기/수량 변경 한 번의 비용 (증분 총액 갱신)
+ * - mergeInto: OrderService.checkoutAllPending 의 PENDING → PAID 머지 (절반 겹치는 품목, 새 PAID 생성 포함)
+ * - resolveTargets: OrderService.updateCart 의 연산 → 목표 수량 계산
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderBenchmark {
+
+    @Param({"4", "16", "64", "256"})
+    int lines;
+
+    private Order order;
+    private Order pending;
+    private List<CartOperation> operations;
+    private long probe;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 절반은 order 와 겹치고 절반은 새 상품
+        pending = newOrder(lines / 2, lines);
+        operations = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            operations.add(i % 2 == 0
+                ? new CartOperation((long) i, 1, null)
+                : new CartOperation((long) i, null, 3));
+        }
+    }
+
+    // addExisting 으로 늘어난 수량/총액을 반복마다 초기화
+    @Setup(Level.Iteration)
+    public void rewind() {
+        order = newOrder(0, lines);
+        probe = 0;
+    }
+
+    @Benchmark
+    public Integer recalcTotal() {
+        order.recalcTotal();
+        return order.getTotalAmount();
+    }
+
+    @Benchmark
+    public OrderItem findItem() {
+        return order.findItem(nextProductId());
+    }
+
+    @Benchmark
+    public OrderItem addExisting() {
+        return order.addItem(nextProductId(), 1000, 1);
+    }
+
+    @Benchmark
+    public Integer changeQuantity() {
+        long productId = nextProductId();
+        order.changeItemQuantity(productId, (int) (probe % 5) + 1);
+        return order.getTotalAmount();
+    }
+
+    @Benchmark
+    public Order mergeInto() {
+        Order paid = newOrder(0, lines);
+        pending.getItems().forEach(item ->
+            paid.addItem(item.getProductId(), item.getUnitPrice(), item.getQuantity()));
+        return paid;
+    }
+
+    @Benchmark
+    public Map<Long, Integer> resolveTargets() {
+        return CartOperation.resolveTargets(operations, productId -> {
+            OrderItem item = order.findItem(productId);
+            return item == null ? 0 : item.getQuantity();
+        });
+    }
+
+    private long nextProductId() {
+        return probe++ % lines;
+    }
+
+    private static Order newOrder(int firstProductId, int count) {
+        Order order = Order.builder().batchDate(LocalDate.now()).build();
+        for (int i = 0; i < count; i++) {
+            order.addItem((long) (firstProductId + i), 1000 + i, 1);
+        }
+        return order;
+    }
+}
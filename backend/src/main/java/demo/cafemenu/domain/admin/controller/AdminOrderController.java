@@ -0,0 +1,60 @@
+package demo.cafemenu.domain.admin.controller;
+
+import static demo.cafemenu.global.exception.ErrorCode.INVALID_REQUEST;
+
+import demo.cafemenu.domain.order.entity.OrderStatus;
+import demo.cafemenu.domain.order.service.OrderExportService;
+import demo.cafemenu.domain.order.service.OrderExportService.Format;
+import demo.cafemenu.global.exception.BusinessException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/orders")
+public class AdminOrderController {
+
+  private final OrderExportService orderExportService;
+
+  // 주문 내보내기(admin) — CSV/NDJSON 스트리밍
+  @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> export(
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+      @RequestParam(required = false) OrderStatus status,
+      @RequestParam(defaultValue = "csv") String format) {
+
+    if (from != null && to != null && from.isAfter(to)) {
+      throw new BusinessException(INVALID_REQUEST);
+    }
+    Format exportFormat = switch (format.toLowerCase()) {
+      case "csv" -> Format.CSV;
+      case "ndjson" -> Format.NDJSON;
+      default -> throw new BusinessException(INVALID_REQUEST);
+    };
+
+    String filename = "orders-" + (from == null ? "all" : from) + "_" + (to == null ? "all" : to)
+        + (exportFormat == Format.CSV ? ".csv" : ".ndjson");
+    MediaType contentType = exportFormat == Format.CSV
+        ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+        : MediaType.parseMediaType("application/x-ndjson");
+
+    StreamingResponseBody body = out -> orderExportService.export(from, to, status, exportFormat, out);
+    return ResponseEntity.ok()
+        .contentType(contentType)
+        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+        .body(body);
+  }
+}
@@ -1,12 +1,25 @@
 package demo.cafemenu.domain.admin.controller;
 
+import static demo.cafemenu.global.exception.ErrorCode.INVALID_REQUEST;
+
+import demo.cafemenu.domain.order.cart.CartEngine;
+import demo.cafemenu.domain.product.controller.ProductController;
+import demo.cafemenu.domain.product.dto.ProductImportResult;
+import demo.cafemenu.domain.product.dto.ProductPage;
 import demo.cafemenu.domain.product.dto.ProductRequest;
 import demo.cafemenu.domain.product.dto.ProductResponse;
+import demo.cafemenu.domain.product.dto.StockRequest;
+import demo.cafemenu.domain.product.dto.StockResponse;
+import demo.cafemenu.domain.product.service.ProductImportService;
 import demo.cafemenu.domain.product.service.ProductService;
+import demo.cafemenu.domain.product.stock.StockLedger;
+import demo.cafemenu.global.exception.BusinessException;
 import jakarta.validation.Valid;
+import java.io.InputStream;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,6 +28,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -24,12 +38,28 @@ import org.springframework.web.bind.annotation.RestController;
 public class AdminProductController {
 
   private final ProductService productService;
+  private final ProductImportService productImportService;
+  private final StockLedger stockLedger;
+  private final CartEngine cartEngine;
 
-  // 제품 전체 조회(admin)
+  // 제품 조회(admin) — 파라미터 없으면 전체, 있으면 검색 + keyset 페이지 (다음 커서는 X-Next-Cursor 헤더)
   @PreAuthorize("hasAuthority('ROLE_ADMIN')")
   @GetMapping
-  public List<ProductResponse> list() {
-    return productService.getAll();
+  public ResponseEntity<List<ProductResponse>> list(
+      @RequestParam(required = false) String q,
+      @RequestParam(required = false) String sort,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size) {
+    if (q == null && sort == null && cursor == null && size == null) {
+      return ResponseEntity.ok(productService.getAll());
+    }
+    ProductPage page = productService.search(q, sort, cursor,
+        size == null ? ProductController.DEFAULT_PAGE_SIZE : size);
+    ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+    if (page.nextCursor() != null) {
+      response.header(ProductController.NEXT_CURSOR_HEADER, page.nextCursor());
+    }
+    return response.body(page.products());
   }
 
   // 제품 등록(admin)
@@ -40,6 +70,19 @@ public class AdminProductController {
     return productService.create(req);
   }
 
+  // 제품 일괄 등록(admin) — CSV/NDJSON 본문 스트리밍, 행별 오류 리포트 반환
+  @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+  @PostMapping("/import")
+  public ProductImportResult importProducts(InputStream body,
+      @RequestParam(defaultValue = "csv") String format) {
+    ProductImportService.Format importFormat = switch (format.toLowerCase()) {
+      case "csv" -> ProductImportService.Format.CSV;
+      case "ndjson" -> ProductImportService.Format.NDJSON;
+      default -> throw new BusinessException(INVALID_REQUEST);
+    };
+    return productImportService.importProducts(body, importFormat);
+  }
+
   // 제품 수정(admin)
   @PreAuthorize("hasAuthority('ROLE_ADMIN')")
   @PutMapping("/{beanId}")
@@ -49,6 +92,32 @@ public class AdminProductController {
     return productService.update(beanId, req);
   }
 
+  // 한정 수량 재고 조회(admin)
+  @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+  @GetMapping("/{beanId}/stock")
+  public StockResponse getStock(@PathVariable Long beanId) {
+    return stockLedger.get(beanId);
+  }
+
+  // 한정 수량 재고 지정(admin) — 이미 장바구니에 담긴 수량은 지정 수량에서 차감
+  @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+  @PutMapping("/{beanId}/stock")
+  public StockResponse restock(@PathVariable Long beanId, @Valid @RequestBody StockRequest req) {
+    if (!stockLedger.isLimited(beanId)) {
+      // 새로 한정 지정할 때는 장바구니 수량을 DB 에서 읽으므로 write-behind 변경분을 먼저 반영
+      cartEngine.flushDirty();
+    }
+    return stockLedger.restock(beanId, req.quantity());
+  }
+
+  // 한정 수량 해제(admin) — 무제한 판매로
+  @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+  @DeleteMapping("/{beanId}/stock")
+  @ResponseStatus(HttpStatus.NO_CONTENT)
+  public void unlimit(@PathVariable Long beanId) {
+    stockLedger.unlimit(beanId);
+  }
+
   // 제품 삭제(admin)
   @PreAuthorize("hasAuthority('ROLE_ADMIN')")
   @DeleteMapping("/{beanId}")
@@ -0,0 +1,50 @@
+package demo.cafemenu.domain.order.batch;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * 매니페스트 작업 체크포인트.
+ * - lastOrderId: 파일에 완전히 기록된 마지막 주문 id (재시작 시 이 id 이후부터)
+ * - position: 그 시점의 파일 크기 (재시작 시 이 위치로 잘라서 중복 줄 제거)
+ */
+public record ManifestCheckpoint(long lastOrderId, long position, long orders, boolean completed) {
+
+    public static final ManifestCheckpoint START = new ManifestCheckpoint(0L, 0L, 0L, false);
+
+    public static ManifestCheckpoint load(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return START;
+        }
+        Properties props = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            props.load(reader);
+        }
+        return new ManifestCheckpoint(
+            Long.parseLong(props.getProperty("lastOrderId", "0")),
+            Long.parseLong(props.getProperty("position", "0")),
+            Long.parseLong(props.getProperty("orders", "0")),
+            Boolean.parseBoolean(props.getProperty("completed", "false")));
+    }
+
+    // 임시 파일에 쓴 뒤 원자적으로 교체 (쓰다 죽어도 이전 체크포인트 유지)
+    public void save(Path file) throws IOException {
+        Properties props = new Properties();
+        props.setProperty("lastOrderId", Long.toString(lastOrderId));
+        props.setProperty("position", Long.toString(position));
+        props.setProperty("orders", Long.toString(orders));
+        props.setProperty("completed", Boolean.toString(completed));
+
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+            props.store(writer, null);
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
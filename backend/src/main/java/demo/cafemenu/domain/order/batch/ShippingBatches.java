@@ -0,0 +1,42 @@
+package demo.cafemenu.domain.order.batch;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 배송 배치일 규칙 (마감 시각 app.shipping.cutoff, 기본 14:00).
+ * - 마감 전 결제 → 오늘 배치, 마감 후 결제 → 다음 날 배치
+ * - 배치일은 결제 트랜잭션 시작 시각으로 정하므로 마감 직전에 시작한 결제는 마감 뒤에 커밋될 수 있음
+ *   → 매니페스트는 마감 후 유예 시간(app.shipping.manifest.grace)이 지나서 만듦 (ShippingManifestJob)
+ */
+@Component
+public class ShippingBatches {
+
+    private final LocalTime cutoff;
+
+    public ShippingBatches(@Value("${app.shipping.cutoff:14:00}") String cutoff) {
+        this.cutoff = LocalTime.parse(cutoff);
+    }
+
+    // 지금 결제하면 들어가는 배송 배치일
+    public LocalDate current() {
+        return batchOf(LocalDateTime.now());
+    }
+
+    // 가장 최근에 마감된 배송 배치일 (마감 시각 직후라면 오늘)
+    public LocalDate lastClosed() {
+        return current().minusDays(1);
+    }
+
+    // 해당 배치일의 마감 시각
+    public LocalDateTime closedAt(LocalDate batchDate) {
+        return batchDate.atTime(cutoff);
+    }
+
+    public LocalDate batchOf(LocalDateTime paidAt) {
+        return paidAt.toLocalTime().isBefore(cutoff) ? paidAt.toLocalDate() : paidAt.toLocalDate().plusDays(1);
+    }
+}
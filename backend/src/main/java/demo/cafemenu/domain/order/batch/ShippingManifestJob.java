@@ -0,0 +1,251 @@
+package demo.cafemenu.domain.order.batch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 14시 마감 배송 배치 매니페스트 작업.
+ * - 마감 시각에 해당 batch_date 의 PAID 주문을 forward-only 커서로 흘려 읽으며 NDJSON 으로 기록
+ * - 주문/품목/상품명은 한 번의 조인 쿼리, 주문 단위로만 메모리에 모았다가 바로 기록 (전체 적재 없음)
+ * - 주문 N건마다 체크포인트(마지막 주문 id, 파일 위치) 저장 → 중단 시 같은 날짜로 재실행하면 이어서 진행
+ * - 처리 건수/초당 처리량을 로그로 남김
+ * - 배치일 규칙(ShippingBatches): 결제 시각이 마감(app.shipping.cutoff) 전이면 그날, 이후면 다음 날 batch_date 로 확정.
+ *   마감 직전에 시작해 마감 뒤에 커밋되는 결제도 있으므로 마감 + 유예 시간(app.shipping.manifest.grace) 뒤에
+ *   방금 마감된 배치일만 처리 (완료된 매니페스트는 다시 만들지 않음), 마감 뒤 시작한 결제는 다음 날 매니페스트에 포함됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShippingManifestJob {
+
+    private static final String MANIFEST_SQL = """
+        select o.id, u.email, o.shipping_address, o.shipping_postcode, o.total_amount,
+               i.product_id, p.name, i.quantity
+        from orders o
+        join users u on u.id = o.user_id
+        left join order_items i on i.order_id = o.id
+        left join products p on p.id = i.product_id
+        where o.batch_date = ? and o.status = 'PAID' and o.id > ?
+        order by o.id, i.id
+        """;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ShippingBatches shippingBatches;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${app.shipping.manifest.dir:./manifests}")
+    private String manifestDir;
+
+    @Value("${app.shipping.manifest.fetch-size:500}")
+    private int fetchSize;
+
+    @Value("${app.shipping.manifest.checkpoint-interval:1000}")
+    private int checkpointInterval;
+
+    // 마감 직전에 시작한 결제 트랜잭션이 커밋될 때까지 기다리는 시간
+    @Value("${app.shipping.manifest.grace:PT5M}")
+    private Duration grace;
+
+    // 14시 마감 + 유예 시간 — 방금 마감된 배치일(오늘) 처리, cron 은 app.shipping.cutoff + grace 이후로 맞출 것
+    @Scheduled(cron = "${app.shipping.manifest.cron:0 5 14 * * *}")
+    public void runAtCutoff() {
+        LocalDate batchDate = shippingBatches.lastClosed();
+        LocalDateTime ready = shippingBatches.closedAt(batchDate).plus(grace);
+        if (LocalDateTime.now().isBefore(ready)) {
+            // 완료 표시된 매니페스트는 다시 만들지 않으므로 늦게 커밋된 결제가 빠진 채 완료되지 않도록 건너뜀
+            log.error("Shipping manifest for {} scheduled before {} (cutoff + grace), skip — check app.shipping.manifest.cron",
+                    batchDate, ready);
+            return;
+        }
+        run(batchDate);
+    }
+
+    /**
+     * 지정 배치일의 매니페스트 생성 (이미 완료된 날짜면 건너뜀, 중단된 날짜면 체크포인트부터 재개)
+     * @return 이번 실행에서 기록한 주문 수
+     */
+    public long run(LocalDate batchDate) {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("Shipping manifest job is already running, skip {}", batchDate);
+            return 0;
+        }
+        try {
+            return export(batchDate);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private long export(LocalDate batchDate) throws IOException {
+        Path dir = Paths.get(manifestDir);
+        Files.createDirectories(dir);
+        Path manifest = dir.resolve("manifest-" + batchDate + ".ndjson");
+        Path checkpointFile = dir.resolve("manifest-" + batchDate + ".checkpoint");
+
+        ManifestCheckpoint checkpoint = ManifestCheckpoint.load(checkpointFile);
+        if (checkpoint.completed()) {
+            log.info("Shipping manifest for {} already completed ({} orders)", batchDate, checkpoint.orders());
+            return 0;
+        }
+        if (checkpoint.lastOrderId() > 0) {
+            log.info("Resuming shipping manifest for {} after order {}", batchDate, checkpoint.lastOrderId());
+        }
+
+        long startNanos = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(manifest,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            // 마지막 체크포인트 이후에 쓰다 만 내용은 버림
+            channel.truncate(checkpoint.position());
+            channel.position(checkpoint.position());
+
+            ManifestWriter writer = new ManifestWriter(channel, checkpointFile, batchDate, checkpoint);
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(MANIFEST_SQL,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                ps.setDate(1, Date.valueOf(batchDate));
+                ps.setLong(2, checkpoint.lastOrderId());
+                return ps;
+            }, writer);
+            writer.finish();
+
+            double seconds = Math.max((System.nanoTime() - startNanos) / 1_000_000_000.0, 0.001);
+            log.info("Shipping manifest for {} done: {} orders / {} rows in {}s ({} rows/s) -> {}",
+                    batchDate, writer.orders, writer.rows, String.format("%.2f", seconds),
+                    Math.round(writer.rows / seconds), manifest);
+            return writer.orders;
+        }
+    }
+
+    /**
+     * 조인 결과를 한 행씩 받아 주문 단위로 묶어 기록.
+     * 같은 주문의 품목 행은 order by o.id 로 연속해서 들어옴
+     */
+    private class ManifestWriter implements RowCallbackHandler {
+
+        private final FileChannel channel;
+        private final Path checkpointFile;
+        private final LocalDate batchDate;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private final long totalBefore;
+        private final long startNanos = System.nanoTime();
+
+        private ShippingManifestLine current;
+        private long lastOrderId;
+        private long orders;
+        private long rows;
+        private long sinceCheckpoint;
+
+        ManifestWriter(FileChannel channel, Path checkpointFile, LocalDate batchDate,
+                       ManifestCheckpoint checkpoint) {
+            this.channel = channel;
+            this.checkpointFile = checkpointFile;
+            this.batchDate = batchDate;
+            this.totalBefore = checkpoint.orders();
+            this.lastOrderId = checkpoint.lastOrderId();
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long orderId = rs.getLong(1);
+            if (current == null || current.orderId() != orderId) {
+                emitCurrent();
+                current = new ShippingManifestLine(orderId, rs.getString(2), batchDate,
+                        rs.getString(3), rs.getString(4), rs.getInt(5), new ArrayList<>());
+            }
+            long productId = rs.getLong(6);
+            if (!rs.wasNull()) {
+                current.items().add(new ShippingManifestLine.Item(productId, rs.getString(7), rs.getInt(8)));
+            }
+            rows++;
+        }
+
+        void finish() throws IOException {
+            emitCurrent();
+            drain();
+            checkpoint(true);
+        }
+
+        private void emitCurrent() {
+            if (current == null) {
+                return;
+            }
+            try {
+                write(objectMapper.writeValueAsBytes(current));
+                lastOrderId = current.orderId();
+                orders++;
+                if (++sinceCheckpoint >= checkpointInterval) {
+                    drain();
+                    checkpoint(false);
+                    sinceCheckpoint = 0;
+                    logProgress();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void write(byte[] line) throws IOException {
+            if (buffer.remaining() < line.length + 1) {
+                drain();
+            }
+            if (line.length + 1 > buffer.capacity()) {
+                channel.write(ByteBuffer.wrap(line));
+                channel.write(ByteBuffer.wrap(new byte[]{'\n'}));
+                return;
+            }
+            buffer.put(line).put((byte) '\n');
+        }
+
+        private void drain() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        // 버퍼를 비운 직후에만 호출 (position 이 기록된 내용과 일치)
+        // 체크포인트가 가리키는 위치까지의 내용이 디스크에 있어야 재개 시 truncate 후 이어쓰기가 안전하므로 먼저 force
+        private void checkpoint(boolean completed) throws IOException {
+            channel.force(false);
+            new ManifestCheckpoint(lastOrderId, channel.position(), totalBefore + orders, completed)
+                    .save(checkpointFile);
+        }
+
+        private void logProgress() {
+            double seconds = Math.max((System.nanoTime() - startNanos) / 1_000_000_000.0, 0.001);
+            log.info("Shipping manifest progress: {} orders / {} rows ({} rows/s)",
+                    orders, rows, Math.round(rows / seconds));
+        }
+    }
+}
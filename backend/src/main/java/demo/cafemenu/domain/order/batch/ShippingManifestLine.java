@@ -0,0 +1,20 @@
+package demo.cafemenu.domain.order.batch;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 배송 매니페스트 한 줄(NDJSON) — 결제 완료 주문 1건
+ */
+public record ShippingManifestLine(
+    Long orderId,
+    String email,
+    LocalDate batchDate,
+    String shippingAddress,
+    String shippingPostcode,
+    Integer totalAmount,
+    List<Item> items
+) {
+
+    public record Item(Long productId, String productName, Integer quantity) {}
+}
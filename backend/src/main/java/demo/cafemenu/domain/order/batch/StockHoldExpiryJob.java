@@ -0,0 +1,38 @@
+package demo.cafemenu.domain.order.batch;
+
+import demo.cafemenu.domain.order.service.OrderService;
+import demo.cafemenu.domain.product.stock.StockLedger;
+import demo.cafemenu.domain.product.stock.StockLedger.ExpiredHold;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 한정 재고 장바구니 만료 작업.
+ * 마지막 예약 후 app.stock.hold-ttl 이 지난 상품은 장바구니에서 빼고 재고를 반환 (사용자/상품 단위 개별 트랜잭션)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockHoldExpiryJob {
+
+    private final StockLedger stockLedger;
+    private final OrderService orderService;
+
+    @Scheduled(fixedDelayString = "${app.stock.expiry-interval-ms:60000}")
+    public void expireHolds() {
+        List<ExpiredHold> expired = stockLedger.expiredHolds();
+        for (ExpiredHold hold : expired) {
+            try {
+                orderService.expireHold(hold.userId(), hold.productId());
+            } catch (RuntimeException e) {
+                log.error("Failed to expire stock hold of user {} for product {}", hold.userId(), hold.productId(), e);
+            }
+        }
+        if (!expired.isEmpty()) {
+            log.info("Expired {} stock holds", expired.size());
+        }
+    }
+}
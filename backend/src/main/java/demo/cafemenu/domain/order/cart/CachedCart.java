@@ -0,0 +1,169 @@
+package demo.cafemenu.domain.order.cart;
+
+import static demo.cafemenu.domain.order.entity.OrderStatus.PENDING;
+
+import demo.cafemenu.domain.order.dto.OrderDto;
+import demo.cafemenu.domain.order.dto.OrderItemDto;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.Getter;
+
+/**
+ * 메모리에 올라와 있는 한 사용자의 PENDING 장바구니.
+ * - 배치일(batchDate)별로 PENDING 주문 1건씩, 각 주문은 productId → 라인
+ * - 스레드 안전하지 않음: 반드시 CartEngine 의 스트라이프 락 안에서만 접근
+ */
+@Getter
+class CachedCart {
+
+    private final Long userId;
+    private final String email;
+    private final Map<LocalDate, Batch> batches = new TreeMap<>();
+
+    private boolean dirty;
+    private long lastAccessMillis = System.currentTimeMillis();
+
+    CachedCart(Long userId, String email) {
+        this.userId = userId;
+        this.email = email;
+    }
+
+    Batch batch(LocalDate batchDate) {
+        return batches.computeIfAbsent(batchDate, Batch::new);
+    }
+
+    void add(LocalDate batchDate, Long productId, String productName, int unitPrice) {
+        Line line = batch(batchDate).lines.get(productId);
+        if (line != null) {
+            line.quantity += 1;
+        } else {
+            batch(batchDate).lines.put(productId, new Line(null, productId, productName, unitPrice, 1));
+        }
+        dirty = true;
+    }
+
+    int quantityOf(LocalDate batchDate, Long productId) {
+        Batch batch = batches.get(batchDate);
+        Line line = batch == null ? null : batch.lines.get(productId);
+        return line == null ? 0 : line.quantity;
+    }
+
+    // 절대 수량 지정 (0 이하면 라인 제거)
+    void setQuantity(LocalDate batchDate, Long productId, String productName, int unitPrice, int quantity) {
+        Map<Long, Line> lines = batch(batchDate).lines;
+        Line line = lines.get(productId);
+        if (quantity <= 0) {
+            lines.remove(productId);
+        } else if (line != null) {
+            line.quantity = quantity;
+        } else {
+            lines.put(productId, new Line(null, productId, productName, unitPrice, quantity));
+        }
+        dirty = true;
+    }
+
+    // 상품이 담긴 첫 번째 배치에서 수량 -1, 0 이하가 되면 라인 제거
+    boolean remove(Long productId) {
+        for (Batch batch : batches.values()) {
+            Line line = batch.lines.get(productId);
+            if (line != null) {
+                line.quantity -= 1;
+                if (line.quantity <= 0) {
+                    batch.lines.remove(productId);
+                }
+                dirty = true;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 모든 배치에서 상품 라인 제거, 제거한 수량 합 반환
+    int removeAll(Long productId) {
+        int removed = 0;
+        for (Batch batch : batches.values()) {
+            Line line = batch.lines.remove(productId);
+            if (line != null) {
+                removed += line.quantity;
+            }
+        }
+        if (removed > 0) {
+            dirty = true;
+        }
+        return removed;
+    }
+
+    void markClean() {
+        this.dirty = false;
+    }
+
+    void touch() {
+        this.lastAccessMillis = System.currentTimeMillis();
+    }
+
+    List<OrderDto> toDtos() {
+        List<OrderDto> result = new ArrayList<>(batches.size());
+        for (Batch batch : batches.values()) {
+            OrderDto dto = new OrderDto(batch.orderId, email, batch.batchDate, batch.totalAmount(), PENDING);
+            for (Line line : batch.lines.values()) {
+                dto.getItems().add(new OrderItemDto(line.itemId, line.productId, line.productName,
+                        line.unitPrice, line.quantity, line.unitPrice * line.quantity));
+            }
+            result.add(dto);
+        }
+        return result;
+    }
+
+    @Getter
+    static class Batch {
+        private final LocalDate batchDate;
+        private final Map<Long, Line> lines = new LinkedHashMap<>();
+        private Long orderId;
+
+        Batch(LocalDate batchDate) {
+            this.batchDate = batchDate;
+        }
+
+        void assignOrderId(Long orderId) {
+            this.orderId = orderId;
+        }
+
+        Collection<Line> lineValues() {
+            return lines.values();
+        }
+
+        int totalAmount() {
+            int total = 0;
+            for (Line line : lines.values()) {
+                total += line.unitPrice * line.quantity;
+            }
+            return total;
+        }
+    }
+
+    @Getter
+    static class Line {
+        private Long itemId;
+        private final Long productId;
+        private final String productName;
+        private final int unitPrice;
+        private int quantity;
+
+        Line(Long itemId, Long productId, String productName, int unitPrice, int quantity) {
+            this.itemId = itemId;
+            this.productId = productId;
+            this.productName = productName;
+            this.unitPrice = unitPrice;
+            this.quantity = quantity;
+        }
+
+        void assignItemId(Long itemId) {
+            this.itemId = itemId;
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package demo.cafemenu.domain.order.cart;
+
+import static demo.cafemenu.global.exception.ErrorCode.CHECKOUT_IN_PROGRESS;
+import static demo.cafemenu.global.exception.ErrorCode.PENDING_PRODUCT_NOT_FOUND;
+
+import demo.cafemenu.domain.order.dto.CartOperation;
+import demo.cafemenu.domain.order.dto.OrderDto;
+import demo.cafemenu.domain.product.entity.Product;
+import demo.cafemenu.global.exception.BusinessException;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 PENDING 장바구니를 메모리에 유지하는 write-behind 엔진.
+ * - userId 기준 스트라이프 락으로 같은 사용자의 변경을 직렬화 (다른 사용자끼리는 병렬)
+ * - 장바구니 조회는 메모리에서 응답, 변경분은 dirty 표시 후 주기적으로 묶어서 DB 반영
+ * - 결제는 CheckoutService 가 beginCheckout(변경분 반영) → 결제 트랜잭션 → endCheckout 순으로 진행,
+ *   그 사이 같은 사용자의 장바구니 변경은 CHECKOUT_IN_PROGRESS 로 거절 (락은 반영하는 동안만 잡음)
+ * - app.cart.write-behind.enabled=false 이면 OrderService 가 기존 동기 경로 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CartEngine {
+
+    private static final int STRIPES = 64;
+
+    private final CartFlusher cartFlusher;
+    private final CartVersions cartVersions;
+
+    private final ReentrantLock[] locks = createLocks();
+    private final ConcurrentHashMap<Long, CachedCart> carts = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyUsers = ConcurrentHashMap.newKeySet();
+    private final Set<Long> checkingOut = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.cart.write-behind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.cart.write-behind.flush-batch-size:100}")
+    private int flushBatchSize;
+
+    @Value("${app.cart.write-behind.idle-evict-ms:600000}")
+    private long idleEvictMillis;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 장바구니 상품 추가 (오늘 배치에 수량 +1)
+    public void add(Long userId, Product product) {
+        ReentrantLock lock = lockForChange(userId);
+        try {
+            CachedCart cart = cartOf(userId);
+            cart.add(LocalDate.now(), product.getId(), product.getName(), product.getPrice());
+            dirtyUsers.add(userId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 장바구니 상품 수량 -1 (없으면 PENDING_PRODUCT_NOT_FOUND)
+    public void remove(Long userId, Long productId) {
+        ReentrantLock lock = lockForChange(userId);
+        try {
+            CachedCart cart = cartOf(userId);
+            if (!cart.remove(productId)) {
+                throw new BusinessException(PENDING_PRODUCT_NOT_FOUND);
+            }
+            dirtyUsers.add(userId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /* 장바구니 일괄 변경 (오늘 배치 기준, 전부 검증 후 한 번에 적용)
+    - beforeApply: 적용 직전 productId 별 수량 변화량(목표 - 현재)을 받음 (재고 예약 등, 예외 시 적용 안 함)
+     */
+    public void update(Long userId, List<CartOperation> operations, Map<Long, Product> products,
+                       Consumer<Map<Long, Integer>> beforeApply) {
+        ReentrantLock lock = lockForChange(userId);
+        try {
+            CachedCart cart = cartOf(userId);
+            LocalDate today = LocalDate.now();
+            Map<Long, Integer> targets = CartOperation.resolveTargets(operations,
+                    productId -> cart.quantityOf(today, productId));
+            Map<Long, Integer> deltas = new HashMap<>();
+            targets.forEach((productId, quantity) ->
+                    deltas.put(productId, quantity - cart.quantityOf(today, productId)));
+            beforeApply.accept(deltas);
+
+            targets.forEach((productId, quantity) -> {
+                Product product = products.get(productId);
+                cart.setQuantity(today, productId, product.getName(), product.getPrice(), quantity);
+            });
+            dirtyUsers.add(userId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 모든 배치에서 해당 상품 라인 제거 (장바구니 만료), 제거한 수량 반환
+    public int removeLine(Long userId, Long productId) {
+        ReentrantLock lock = lockForChange(userId);
+        try {
+            int removed = cartOf(userId).removeAll(productId);
+            if (removed > 0) {
+                dirtyUsers.add(userId);
+            }
+            return removed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 장바구니 조회 (메모리)
+    public List<OrderDto> read(Long userId) {
+        ReentrantLock lock = lockFor(userId);
+        lock.lock();
+        try {
+            return cartOf(userId).toDtos();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 결제 트랜잭션 시작 전에 호출 (트랜잭션 밖). 해당 사용자의 변경분을 자체 트랜잭션으로 반영하고
+     * 메모리 장바구니를 비운 뒤 결제 중으로 표시 — 락은 반영하는 동안만 잡고 결제 트랜잭션까지 끌고 가지 않음.
+     * 같은 사용자가 이미 결제 중이면 CHECKOUT_IN_PROGRESS
+     */
+    public void beginCheckout(Long userId) {
+        if (!enabled) {
+            return;
+        }
+        ReentrantLock lock = lockForChange(userId);
+        try {
+            CachedCart cart = carts.get(userId);
+            if (cart != null && cart.isDirty()) {
+                flushLocked(List.of(cart));
+            }
+            carts.remove(userId);
+            dirtyUsers.remove(userId);
+            checkingOut.add(userId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 결제 트랜잭션 종료(커밋/롤백) 후 호출. 결제 중에 조회로 적재된 장바구니는 결제 전 상태이므로 버리고
+     * 다음 접근 때 DB 에서 다시 적재
+     */
+    public void endCheckout(Long userId) {
+        if (!enabled) {
+            return;
+        }
+        ReentrantLock lock = lockFor(userId);
+        lock.lock();
+        try {
+            carts.remove(userId);
+            dirtyUsers.remove(userId);
+            checkingOut.remove(userId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /* 주기적 write-behind
+    - dirty 사용자들을 flush-batch-size 단위로 모아 한 트랜잭션에 반영
+    - 락은 스트라이프 번호 오름차순으로 잡아 스트라이프끼리 교착되지 않도록 함
+     */
+    @Scheduled(fixedDelayString = "${app.cart.write-behind.flush-interval-ms:500}")
+    public void flushDirty() {
+        if (!enabled) {
+            return;
+        }
+        while (!dirtyUsers.isEmpty()) {
+            List<Long> batch = drainDirty(flushBatchSize);
+            if (batch.isEmpty() || !flushUsers(batch)) {
+                break;
+            }
+        }
+        evictIdle();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushDirty();
+    }
+
+    private boolean flushUsers(List<Long> userIds) {
+        TreeSet<Integer> stripes = new TreeSet<>();
+        userIds.forEach(userId -> stripes.add(stripeOf(userId)));
+
+        List<ReentrantLock> held = new ArrayList<>(stripes.size());
+        try {
+            for (Integer stripe : stripes) {
+                locks[stripe].lock();
+                held.add(locks[stripe]);
+            }
+            List<CachedCart> targets = new ArrayList<>(userIds.size());
+            for (Long userId : userIds) {
+                CachedCart cart = carts.get(userId);
+                if (cart != null && cart.isDirty()) {
+                    targets.add(cart);
+                }
+            }
+            if (!targets.isEmpty()) {
+                flushLocked(targets);
+            }
+            return true;
+        } catch (RuntimeException e) {
+            log.error("Cart write-behind flush failed for {} users", userIds.size(), e);
+            return false;
+        } finally {
+            held.forEach(ReentrantLock::unlock);
+        }
+    }
+
+    private void flushLocked(List<CachedCart> targets) {
+        try {
+            cartFlusher.flush(targets);
+            // 주문/품목 id 가 확정되어 조회 결과가 바뀌므로 버전도 올림
+            targets.forEach(cart -> {
+                cart.markClean();
+                cartVersions.bump(cart.getUserId());
+            });
+        } catch (RuntimeException e) {
+            // 실패 시 다음 주기에 재시도
+            targets.forEach(cart -> dirtyUsers.add(cart.getUserId()));
+            throw e;
+        }
+    }
+
+    private List<Long> drainDirty(int max) {
+        List<Long> drained = new ArrayList<>(Math.min(max, dirtyUsers.size()));
+        Iterator<Long> it = dirtyUsers.iterator();
+        while (it.hasNext() && drained.size() < max) {
+            drained.add(it.next());
+            it.remove();
+        }
+        return drained;
+    }
+
+    // 오래 쓰이지 않은 깨끗한 장바구니는 메모리에서 제거
+    private void evictIdle() {
+        long threshold = System.currentTimeMillis() - idleEvictMillis;
+        for (Long userId : carts.keySet()) {
+            ReentrantLock lock = lockFor(userId);
+            if (!lock.tryLock()) {
+                continue;
+            }
+            try {
+                CachedCart cart = carts.get(userId);
+                if (cart != null && !cart.isDirty() && cart.getLastAccessMillis() < threshold) {
+                    carts.remove(userId);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // 락 안에서만 호출
+    private CachedCart cartOf(Long userId) {
+        CachedCart cart = carts.get(userId);
+        if (cart == null) {
+            cart = cartFlusher.load(userId);
+            carts.put(userId, cart);
+        }
+        cart.touch();
+        return cart;
+    }
+
+    // 변경용 락: 결제 중인 사용자면 기다리지 않고 거절 (결제 트랜잭션이 끝날 때까지 커넥션을 쥔 채 대기하지 않도록)
+    private ReentrantLock lockForChange(Long userId) {
+        ReentrantLock lock = lockFor(userId);
+        lock.lock();
+        if (checkingOut.contains(userId)) {
+            lock.unlock();
+            throw new BusinessException(CHECKOUT_IN_PROGRESS);
+        }
+        return lock;
+    }
+
+    private ReentrantLock lockFor(Long userId) {
+        return locks[stripeOf(userId)];
+    }
+
+    private int stripeOf(Long userId) {
+        return Math.floorMod(Long.hashCode(userId), STRIPES);
+    }
+
+    private static ReentrantLock[] createLocks() {
+        ReentrantLock[] created = new ReentrantLock[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            created[i] = new ReentrantLock();
+        }
+        return created;
+    }
+}
@@ -0,0 +1,130 @@
+package demo.cafemenu.domain.order.cart;
+
+import static demo.cafemenu.domain.order.entity.OrderStatus.PENDING;
+import static demo.cafemenu.global.exception.ErrorCode.USER_NOT_FOUND;
+
+import demo.cafemenu.domain.order.dto.OrderDto;
+import demo.cafemenu.domain.order.entity.Order;
+import demo.cafemenu.domain.order.entity.OrderItem;
+import demo.cafemenu.domain.order.repository.OrderRepository;
+import demo.cafemenu.domain.order.service.CartQueryService;
+import demo.cafemenu.domain.order.service.OrderMetrics;
+import demo.cafemenu.domain.user.entity.User;
+import demo.cafemenu.domain.user.reposiitory.UserRepository;
+import demo.cafemenu.global.exception.BusinessException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * CachedCart ↔ orders/order_items 변환 담당.
+ * - load: 사용자의 PENDING 주문을 한 번에 읽어 메모리 장바구니 구성
+ * - flush: 여러 사용자의 변경분을 하나의 트랜잭션으로 묶어 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class CartFlusher {
+
+    private final OrderRepository orderRepository;
+    private final CartQueryService cartQueryService;
+    private final UserRepository userRepository;
+    private final OrderMetrics orderMetrics;
+
+    @Transactional(readOnly = true)
+    public CachedCart load(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(USER_NOT_FOUND));
+        CachedCart cart = new CachedCart(user.getId(), user.getEmail());
+
+        List<Order> pendings = orderRepository.findWithItemsByUserIdAndStatus(userId, PENDING);
+        Map<Long, String> names = cartQueryService.findProductNames(pendings);
+
+        for (Order order : pendings) {
+            CachedCart.Batch batch = cart.batch(order.getBatchDate());
+            batch.assignOrderId(order.getId());
+            for (OrderItem item : order.getItems()) {
+                batch.getLines().put(item.getProductId(), new CachedCart.Line(
+                        item.getId(),
+                        item.getProductId(),
+                        names.getOrDefault(item.getProductId(), OrderDto.UNKNOWN_PRODUCT),
+                        item.getUnitPrice(),
+                        item.getQuantity()));
+            }
+        }
+        return cart;
+    }
+
+    /* 변경된 장바구니들을 한 트랜잭션으로 반영
+    - 호출 측(주기적 flush, 결제 전 beginCheckout)은 모두 트랜잭션 밖 → 커넥션 하나만 사용
+      (결제 트랜잭션 안에서 REQUIRES_NEW 로 두 번째 커넥션을 빌리면 풀 크기만큼 동시 결제 시 고갈)
+     */
+    @Transactional
+    public void flush(Collection<CachedCart> carts) {
+        List<Runnable> assignItemIds = new ArrayList<>();
+
+        for (CachedCart cart : carts) {
+            User user = userRepository.getReferenceById(cart.getUserId());
+
+            for (CachedCart.Batch batch : cart.getBatches().values()) {
+                Order order = findPendingOrder(user, batch);
+                if (order == null) {
+                    if (batch.getLines().isEmpty()) {
+                        continue;
+                    }
+                    order = orderRepository.save(Order.builder()
+                            .user(user)
+                            .batchDate(batch.getBatchDate())
+                            .status(PENDING)
+                            .build());
+                    orderMetrics.cartCreatedAfterCommit();
+                }
+
+                reconcile(order, batch, assignItemIds);
+                batch.assignOrderId(order.getId());
+            }
+        }
+
+        // 신규 라인의 id 를 메모리 장바구니에 되돌려 주기 위해 즉시 flush
+        orderRepository.flush();
+        assignItemIds.forEach(Runnable::run);
+    }
+
+    private Order findPendingOrder(User user, CachedCart.Batch batch) {
+        if (batch.getOrderId() != null) {
+            Order order = orderRepository.findById(batch.getOrderId()).orElse(null);
+            if (order != null && order.getStatus() == PENDING) {
+                return order;
+            }
+        }
+        return orderRepository.findByUserAndStatusAndBatchDate(user, PENDING, batch.getBatchDate())
+                .orElse(null);
+    }
+
+    // 메모리 라인 기준으로 주문 품목을 맞춤 (수정/추가/삭제, 총액은 Order 가 증분 반영)
+    private void reconcile(Order order, CachedCart.Batch batch, List<Runnable> assignItemIds) {
+        Map<Long, CachedCart.Line> lines = batch.getLines();
+
+        List<Long> removed = new ArrayList<>();
+        for (OrderItem item : order.getItems()) {
+            if (!lines.containsKey(item.getProductId())) {
+                removed.add(item.getProductId());
+            }
+        }
+        removed.forEach(order::removeItem);
+
+        for (CachedCart.Line line : lines.values()) {
+            OrderItem item = order.findItem(line.getProductId());
+            if (item != null) {
+                order.changeItemQuantity(line.getProductId(), line.getQuantity());
+            } else {
+                item = order.addItem(line.getProductId(), line.getUnitPrice(), line.getQuantity());
+            }
+            OrderItem persisted = item;
+            assignItemIds.add(() -> line.assignItemId(persisted.getId()));
+        }
+    }
+}
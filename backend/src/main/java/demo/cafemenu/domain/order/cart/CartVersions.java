@@ -0,0 +1,41 @@
+package demo.cafemenu.domain.order.cart;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사용자별 장바구니 버전 (장바구니 조회 ETag 용).
+ * - 장바구니 변경/결제 커밋 후 +1, write-behind 반영(주문/품목 id 확정) 후에도 +1
+ * - 커밋 전에 올리면 아직 반영 안 된 장바구니가 새 버전으로 캐시될 수 있으므로 반드시 커밋 후에 올림
+ */
+@Component
+public class CartVersions {
+
+    private final ConcurrentHashMap<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public long current(Long userId) {
+        AtomicLong version = versions.get(userId);
+        return version == null ? 0 : version.get();
+    }
+
+    // 현재 트랜잭션 커밋 후 버전 증가 (롤백 시 그대로), 트랜잭션 밖이면 즉시
+    public void bumpAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bump(userId);
+            }
+        });
+    }
+
+    void bump(Long userId) {
+        versions.computeIfAbsent(userId, id -> new AtomicLong()).incrementAndGet();
+    }
+}
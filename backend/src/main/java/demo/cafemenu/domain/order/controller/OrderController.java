@@ -1,11 +1,17 @@
 package demo.cafemenu.domain.order.controller;
 
+import demo.cafemenu.domain.order.dto.CartUpdateRequest;
 import demo.cafemenu.domain.order.dto.CheckoutRequest;
 import demo.cafemenu.domain.order.dto.OrderDto;
+import demo.cafemenu.domain.order.dto.PaidOrderPage;
+import demo.cafemenu.domain.order.service.CheckoutService;
 import demo.cafemenu.domain.order.service.OrderService;
+import demo.cafemenu.domain.product.service.ProductService;
 import demo.cafemenu.global.security.UserDetailsImpl;
+import demo.cafemenu.global.web.ETags;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -27,15 +33,33 @@ import java.util.List;
 @RequestMapping("/api/user")
 public class OrderController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
     private final OrderService orderService;
+    private final CheckoutService checkoutService;
+    private final ProductService productService;
 
 
-    // 주문내역 조회
+    /* 주문내역 조회
+    - cursor/size 가 하나도 없으면 전체 내역 (기존 클라이언트 호환)
+    - 있으면 keyset 페이지, 다음 페이지 커서는 X-Next-Cursor 헤더로 전달 (size 기본 20)
+     */
     @GetMapping("/order")
-    public ResponseEntity<List<OrderDto>> getPaidOrder(@AuthenticationPrincipal UserDetailsImpl userDetails) {
+    public ResponseEntity<List<OrderDto>> getPaidOrder(@AuthenticationPrincipal UserDetailsImpl userDetails,
+                                                       @RequestParam(required = false) String cursor,
+                                                       @RequestParam(required = false) Integer size) {
         Long userId = userDetails.getId();
-        List<OrderDto> items = orderService.getPaidOrder(userId);
-        return ResponseEntity.ok(items);
+        if (cursor == null && size == null) {
+            return ResponseEntity.ok(orderService.getAllPaidOrders(userId));
+        }
+        PaidOrderPage page = orderService.getPaidOrder(userId, cursor, size == null ? DEFAULT_PAGE_SIZE : size);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.orders());
     }
 
     // 장바구니에 상품 추가
@@ -59,15 +83,29 @@ public class OrderController {
     @ResponseStatus(HttpStatus.OK)
     public void checkoutAll(@AuthenticationPrincipal UserDetailsImpl principal,
                             @Valid @RequestBody CheckoutRequest request) {
-        orderService.checkoutAllPending(principal.getId(), request);
+        checkoutService.checkout(principal.getId(), request);
     }
 
-    // 장바구니 조회
+    // 장바구니 수량 일괄 변경 (한 트랜잭션), 변경된 장바구니 반환
+    @PatchMapping("/order/cart")
+    public List<OrderDto> updateCart(@AuthenticationPrincipal UserDetailsImpl userDetails,
+                                     @Valid @RequestBody CartUpdateRequest request) {
+        return orderService.updateCart(userDetails.getId(), request);
+    }
+
+    // 장바구니 조회 (장바구니 버전 + 카탈로그 버전 ETag — 둘 다 그대로면 장바구니를 읽지 않고 304)
+    // 상품명/가격이 바뀌면 카탈로그 버전이 올라가 장바구니 응답도 다시 내려감
     @GetMapping("/order/cart")
-    public List<OrderDto> getPendingOrdersByUser(@AuthenticationPrincipal UserDetailsImpl userDetails) {
+    public ResponseEntity<List<OrderDto>> getPendingOrdersByUser(@AuthenticationPrincipal UserDetailsImpl userDetails,
+                                                                 @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         Long userId = userDetails.getId();
-        return orderService.getPendingOrdersByUser(userId);
-
+        String etag = ETags.strong("cart", userId, orderService.getCartVersion(userId),
+                productService.getCatalogVersion());
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(ETags.REVALIDATE).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(ETags.REVALIDATE)
+                .body(orderService.getPendingOrdersByUser(userId));
     }
 }
 
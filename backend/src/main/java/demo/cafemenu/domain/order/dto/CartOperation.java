@@ -0,0 +1,56 @@
+package demo.cafemenu.domain.order.dto;
+
+import static demo.cafemenu.global.exception.ErrorCode.PENDING_PRODUCT_NOT_FOUND;
+
+import demo.cafemenu.global.exception.BusinessException;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * 장바구니 일괄 변경의 단건 연산.
+ * - delta: 현재 수량에서 증감 (음수 가능)
+ * - quantity: 절대 수량 지정 (0 이면 라인 삭제)
+ * 둘 중 하나만 지정
+ */
+public record CartOperation(
+    @NotNull(message = "상품 ID는 필수입니다.")
+    Long productId,
+
+    Integer delta,
+
+    @PositiveOrZero(message = "수량은 0 이상이어야 합니다.")
+    Integer quantity
+) {
+
+    @AssertTrue(message = "delta 와 quantity 중 하나만 지정해야 합니다.")
+    public boolean isSingleMode() {
+        return (delta == null) != (quantity == null);
+    }
+
+    public int targetQuantity(int current) {
+        return quantity != null ? quantity : current + delta;
+    }
+
+    /**
+     * 연산 목록을 productId → 최종 수량으로 정리 (같은 상품이 여러 번 오면 순서대로 누적).
+     * 담기지 않은 상품을 줄이려 하면 PENDING_PRODUCT_NOT_FOUND — 적용 전에 전부 검증
+     */
+    public static Map<Long, Integer> resolveTargets(List<CartOperation> operations,
+                                                    ToIntFunction<Long> currentQuantity) {
+        Map<Long, Integer> targets = new LinkedHashMap<>();
+        for (CartOperation op : operations) {
+            Integer resolved = targets.get(op.productId());
+            int current = resolved != null ? resolved : currentQuantity.applyAsInt(op.productId());
+            if (op.delta() != null && op.delta() < 0 && current == 0) {
+                throw new BusinessException(PENDING_PRODUCT_NOT_FOUND);
+            }
+            targets.put(op.productId(), Math.max(0, op.targetQuantity(current)));
+        }
+        return targets;
+    }
+}
@@ -0,0 +1,12 @@
+package demo.cafemenu.domain.order.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record CartUpdateRequest(
+    @NotEmpty(message = "변경할 항목이 없습니다.")
+    @Size(max = 100, message = "한 번에 최대 100건까지 변경할 수 있습니다.")
+    List<@Valid CartOperation> operations
+) {}
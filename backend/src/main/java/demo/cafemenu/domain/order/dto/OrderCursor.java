@@ -0,0 +1,32 @@
+package demo.cafemenu.domain.order.dto;
+
+import static demo.cafemenu.global.exception.ErrorCode.INVALID_REQUEST;
+
+import demo.cafemenu.global.exception.BusinessException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * 주문 내역 keyset 커서 — 마지막으로 내려준 주문의 (batchDate, orderId).
+ * 클라이언트에는 "yyyy-MM-dd:id" 를 base64url 로 감싼 불투명 문자열로 전달
+ */
+public record OrderCursor(LocalDate batchDate, Long orderId) {
+
+    public String encode() {
+        String raw = batchDate + ":" + orderId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrderCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(':');
+            return new OrderCursor(LocalDate.parse(raw.substring(0, sep)),
+                    Long.parseLong(raw.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            throw new BusinessException(INVALID_REQUEST);
+        }
+    }
+}
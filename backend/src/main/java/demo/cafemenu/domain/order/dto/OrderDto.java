@@ -7,9 +7,12 @@ import lombok.Getter;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Getter
 public class OrderDto {
+    public static final String UNKNOWN_PRODUCT = "Unknown Product";
+
     Long orderId;
     String email;
     LocalDate batchDate;
@@ -34,4 +37,12 @@ public class OrderDto {
                 order.getStatus()
         );
     }
+
+    // 품목까지 채운 DTO (productNames: productId → 상품명, 미리 한 번에 조회해 둔 값)
+    public static OrderDto withItems(Order order, Map<Long, String> productNames) {
+        OrderDto dto = from(order);
+        order.getItems().forEach(item -> dto.items.add(OrderItemDto.of(item,
+                productNames.getOrDefault(item.getProductId(), UNKNOWN_PRODUCT))));
+        return dto;
+    }
 }
@@ -1,5 +1,6 @@
 package demo.cafemenu.domain.order.dto;
 
+import demo.cafemenu.domain.order.entity.OrderItem;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -12,4 +13,15 @@ public class OrderItemDto {
     private Integer unitPrice;
     private Integer quantity;
     private Integer lineAmount;
+
+    public static OrderItemDto of(OrderItem item, String productName) {
+        return new OrderItemDto(
+                item.getId(),
+                item.getProductId(),
+                productName,
+                item.getUnitPrice(),
+                item.getQuantity(),
+                item.getLineAmount()
+        );
+    }
 }
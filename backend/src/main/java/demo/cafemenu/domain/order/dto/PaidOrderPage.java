@@ -0,0 +1,12 @@
+package demo.cafemenu.domain.order.dto;
+
+import java.util.List;
+
+/**
+ * 주문 내역 한 페이지.
+ * nextCursor 가 null 이면 마지막 페이지
+ */
+public record PaidOrderPage(
+    List<OrderDto> orders,
+    String nextCursor
+) {}
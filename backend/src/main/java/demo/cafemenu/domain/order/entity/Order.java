@@ -15,11 +15,16 @@ import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -36,7 +41,9 @@ import lombok.NoArgsConstructor;
     },
     indexes = {
         @Index(name = "idx_order_user_batch", columnList = "user_id,batch_date"),
-        @Index(name = "idx_order_user_batch_status", columnList = "user_id,batch_date,status")
+        @Index(name = "idx_order_user_batch_status", columnList = "user_id,batch_date,status"),
+        // 배치일 단위 조회(배송 매니페스트 등)
+        @Index(name = "idx_order_batch_status", columnList = "batch_date,status")
     }
 )
 @Getter
@@ -45,6 +52,9 @@ import lombok.NoArgsConstructor;
 @Builder
 public class Order extends BaseTimeEntity {
 
+  /** 이 개수 이상이면 productId 인덱스로 조회, 미만이면 단순 순회 */
+  private static final int INDEX_THRESHOLD = 16;
+
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
@@ -74,19 +84,110 @@ public class Order extends BaseTimeEntity {
   @Column(name = "shipping_postcode", length = 20)
   private String shippingPostcode;
 
-  /** 주문 품목들 */
+  /** 주문 품목들 — 변경은 addItem/changeItemQuantity/removeItem 으로만 (총액·인덱스 동기화) */
   @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
+  @OrderBy("id")
   @Builder.Default
-  private List<OrderItem> items = new ArrayList<>();
+  private Set<OrderItem> items = new LinkedHashSet<>();
+
+  /** productId → 품목 (영속 대상 아님, 큰 주문에서 최초 조회 시 구성) */
+  @Transient
+  private Map<Long, OrderItem> itemIndex;
+
+  public Set<OrderItem> getItems() {
+    return Collections.unmodifiableSet(items);
+  }
+
+  public OrderItem findItem(Long productId) {
+    if (itemIndex == null && items.size() < INDEX_THRESHOLD) {
+      for (OrderItem item : items) {
+        if (item.getProductId().equals(productId)) {
+          return item;
+        }
+      }
+      return null;
+    }
+    return itemIndex().get(productId);
+  }
+
+  /** 품목 추가 — 같은 상품이 있으면 기존 단가로 수량만 합산. 총액은 증분 반영 */
+  public OrderItem addItem(Long productId, int unitPrice, int quantity) {
+    OrderItem exist = findItem(productId);
+    if (exist != null) {
+      exist.addQuantity(quantity);
+      this.totalAmount += exist.getUnitPrice() * quantity;
+      return exist;
+    }
+
+    OrderItem added = OrderItem.builder()
+        .order(this)
+        .productId(productId)
+        .unitPrice(unitPrice)
+        .quantity(quantity)
+        .build();
+    items.add(added);
+    if (itemIndex != null) {
+      itemIndex.put(productId, added);
+    }
+    this.totalAmount += unitPrice * quantity;
+    return added;
+  }
+
+  /** 품목 수량 변경 — 0 이하면 삭제 */
+  public void changeItemQuantity(Long productId, int quantity) {
+    OrderItem item = findItem(productId);
+    if (item == null) {
+      return;
+    }
+    if (quantity <= 0) {
+      removeItem(productId);
+      return;
+    }
+    this.totalAmount += item.getUnitPrice() * (quantity - item.getQuantity());
+    item.changeQuantity(quantity);
+  }
+
+  public void removeItem(Long productId) {
+    OrderItem item = findItem(productId);
+    if (item == null) {
+      return;
+    }
+    items.remove(item); // orphanRemoval 로 삭제
+    if (itemIndex != null) {
+      itemIndex.remove(productId);
+    }
+    this.totalAmount -= item.getLineAmount();
+  }
 
+  /** 총액 전체 재계산 (증분 갱신과 별개로 검증/보정용) */
   public void recalcTotal() {
-    this.totalAmount = items.stream().mapToInt(OrderItem::getLineAmount).sum();
+    int total = 0;
+    for (OrderItem item : items) {
+      total += item.getLineAmount();
+    }
+    this.totalAmount = total;
+  }
+
+  private Map<Long, OrderItem> itemIndex() {
+    if (itemIndex == null) {
+      Map<Long, OrderItem> index = new HashMap<>(Math.max(16, items.size() * 2));
+      for (OrderItem item : items) {
+        index.put(item.getProductId(), item);
+      }
+      itemIndex = index;
+    }
+    return itemIndex;
   }
 
   public void changeStatus(OrderStatus status) {
     this.status = status;
   }
 
+  /** 결제 시 배송 배치일 확정 (ShippingBatches 규칙) */
+  public void moveToBatch(LocalDate batchDate) {
+    this.batchDate = batchDate;
+  }
+
   public void updateShipping(String address, String postcode) {
     this.shippingAddress = address;
     this.shippingPostcode = postcode;
@@ -63,4 +63,8 @@ public class OrderItem extends BaseTimeEntity {
     this.quantity += delta;
   }
 
+  public void changeQuantity(int quantity) {
+    this.quantity = quantity;
+  }
+
 }
\ No newline at end of file
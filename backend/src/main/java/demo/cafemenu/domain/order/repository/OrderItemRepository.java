@@ -1,9 +1,49 @@
 package demo.cafemenu.domain.order.repository;
 
 import demo.cafemenu.domain.order.entity.OrderItem;
+import java.time.LocalDate;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
+
+    // 장바구니 라인 upsert: 없으면 수량 1로 생성, 있으면 수량 +1 (uk_orderitem_order_product)
+    @Modifying
+    @Query(value = "insert into order_items (order_id, product_id, unit_price, quantity, created_at, updated_at) "
+        + "values (:orderId, :productId, :unitPrice, 1, :today, :today) "
+        + "on duplicate key update quantity = quantity + 1, updated_at = :today", nativeQuery = true)
+    int upsertIncrement(@Param("orderId") Long orderId, @Param("productId") Long productId,
+        @Param("unitPrice") Integer unitPrice, @Param("today") LocalDate today);
+
+    // 수량 -1 (0 이하로는 내려가지 않음). 반환값 0 이면 해당 라인 없음
+    @Modifying
+    @Query(value = "update order_items set quantity = quantity - 1, updated_at = :today "
+        + "where order_id = :orderId and product_id = :productId and quantity > 0", nativeQuery = true)
+    int decrementQuantity(@Param("orderId") Long orderId, @Param("productId") Long productId,
+        @Param("today") LocalDate today);
+
+    @Modifying
+    @Query(value = "delete from order_items where order_id = :orderId and product_id = :productId and quantity <= 0",
+        nativeQuery = true)
+    int deleteIfEmpty(@Param("orderId") Long orderId, @Param("productId") Long productId);
+
+    // 라인 수량 (주문 행을 잠근 뒤 호출 — 잠금 이후 커밋된 최신 값)
+    @Query(value = "select quantity from order_items where order_id = :orderId and product_id = :productId",
+        nativeQuery = true)
+    Optional<Integer> findQuantity(@Param("orderId") Long orderId, @Param("productId") Long productId);
+
+    @Modifying
+    @Query(value = "delete from order_items where order_id = :orderId and product_id = :productId", nativeQuery = true)
+    int deleteLine(@Param("orderId") Long orderId, @Param("productId") Long productId);
+
+    // 해당 상품이 담긴 사용자의 PENDING 주문 (배치일 빠른 순 첫 건)
+    @Query(value = "select i.order_id from order_items i join orders o on o.id = i.order_id "
+        + "where o.user_id = :userId and o.status = 'PENDING' and i.product_id = :productId "
+        + "order by o.batch_date limit 1", nativeQuery = true)
+    Optional<Long> findPendingOrderIdContaining(@Param("userId") Long userId, @Param("productId") Long productId);
 }
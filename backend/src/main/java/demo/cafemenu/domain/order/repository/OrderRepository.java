@@ -4,11 +4,16 @@ import demo.cafemenu.domain.order.entity.Order;
 import demo.cafemenu.domain.order.entity.OrderStatus;
 import demo.cafemenu.domain.user.entity.User;
 import jakarta.persistence.Entity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,4 +26,78 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
 
 
     List<Order> findByUserIdAndStatus(Long userId, OrderStatus orderStatus);
+
+    // 주문 + 고객 + 품목을 한 번의 조회로 (장바구니 조회용)
+    @EntityGraph(attributePaths = {"user", "items"})
+    List<Order> findWithItemsByUserIdAndStatus(Long userId, OrderStatus orderStatus);
+
+    // 주문 내역 keyset 페이지: (batch_date, id) 내림차순, idx_order_user_batch_status 범위 스캔
+    @Query("select o.id from Order o where o.user.id = :userId and o.status = :status "
+        + "order by o.batchDate desc, o.id desc")
+    List<Long> findPageIds(@Param("userId") Long userId, @Param("status") OrderStatus status,
+        Pageable pageable);
+
+    @Query("select o.id from Order o where o.user.id = :userId and o.status = :status "
+        + "and (o.batchDate < :batchDate or (o.batchDate = :batchDate and o.id < :id)) "
+        + "order by o.batchDate desc, o.id desc")
+    List<Long> findPageIdsAfter(@Param("userId") Long userId, @Param("status") OrderStatus status,
+        @Param("batchDate") LocalDate batchDate, @Param("id") Long id, Pageable pageable);
+
+    // 오늘자 PENDING 주문 id + 행 잠금 (장바구니 변경 경로)
+    // - 잠금 순서를 항상 orders → order_items 로 맞춰 단건/일괄 변경 간 교착 방지
+    // - 잠금 조회라 insertPendingIfAbsent 직후에도 최신 커밋 값을 읽음 (REPEATABLE READ 스냅샷 회피)
+    @Query(value = "select id from orders where user_id = :userId and batch_date = :batchDate and status = 'PENDING' "
+        + "for update", nativeQuery = true)
+    Optional<Long> findPendingOrderIdForUpdate(@Param("userId") Long userId, @Param("batchDate") LocalDate batchDate);
+
+    @EntityGraph(attributePaths = {"items"})
+    Optional<Order> findWithItemsById(Long id);
+
+    // PENDING 주문이 없을 때만 생성 (uk_order_user_date_status 충돌 시 건너뜀) — 생성하면 1, 이미 있으면 0
+    // on duplicate key update 는 충돌해도 1 을 돌려줄 수 있어(H2, MySQL CLIENT_FOUND_ROWS) insert ignore 사용
+    @Modifying
+    @Query(value = "insert ignore into orders (user_id, batch_date, status, total_amount, created_at, updated_at) "
+        + "values (:userId, :batchDate, 'PENDING', 0, :batchDate, :batchDate)", nativeQuery = true)
+    int insertPendingIfAbsent(@Param("userId") Long userId, @Param("batchDate") LocalDate batchDate);
+
+    // 총액 증분 갱신: 라인의 스냅샷 단가만큼 +/-
+    @Modifying
+    @Query(value = "update orders set total_amount = total_amount + coalesce((select i.unit_price from order_items i "
+        + "where i.order_id = :orderId and i.product_id = :productId), 0), updated_at = :today where id = :orderId",
+        nativeQuery = true)
+    int addLinePrice(@Param("orderId") Long orderId, @Param("productId") Long productId,
+        @Param("today") LocalDate today);
+
+    @Modifying
+    @Query(value = "update orders set total_amount = total_amount - coalesce((select i.unit_price from order_items i "
+        + "where i.order_id = :orderId and i.product_id = :productId), 0), updated_at = :today where id = :orderId",
+        nativeQuery = true)
+    int subtractLinePrice(@Param("orderId") Long orderId, @Param("productId") Long productId,
+        @Param("today") LocalDate today);
+
+    // 라인 전체 금액(단가 x 수량)만큼 총액 차감 (라인 통째로 빼기 전에 호출)
+    @Modifying
+    @Query(value = "update orders set total_amount = total_amount - coalesce((select i.unit_price * i.quantity "
+        + "from order_items i where i.order_id = :orderId and i.product_id = :productId), 0), updated_at = :today "
+        + "where id = :orderId", nativeQuery = true)
+    int subtractLineAmount(@Param("orderId") Long orderId, @Param("productId") Long productId,
+        @Param("today") LocalDate today);
+
+    // 사용자의 PENDING 주문 id 전부 + 행 잠금 (결제 경로 — 장바구니 변경과 같은 orders → order_items 순서)
+    // 잠금 조회를 먼저 해야 이어지는 일반 조회가 잠금 이후의 최신 커밋 값을 읽음 (REPEATABLE READ 스냅샷 회피)
+    @Query(value = "select id from orders where user_id = :userId and status = 'PENDING' order by id for update",
+        nativeQuery = true)
+    List<Long> findPendingOrderIdsForUpdate(@Param("userId") Long userId);
+
+    // 결제 대상: 사용자의 PENDING 주문 전부 + 이번 배송 배치일의 PAID 주문을 품목까지 한 번에
+    @Query("select distinct o from Order o left join fetch o.items "
+        + "where o.user.id = :userId "
+        + "and (o.status = :pending or (o.status = :paid and o.batchDate = :shipDate)) "
+        + "order by o.batchDate, o.id")
+    List<Order> findCheckoutTargets(@Param("userId") Long userId, @Param("pending") OrderStatus pending,
+        @Param("paid") OrderStatus paid, @Param("shipDate") LocalDate shipDate);
+
+    // 주문 + 고객 + 품목을 id 목록으로 한 번에
+    @Query("select distinct o from Order o join fetch o.user left join fetch o.items where o.id in :ids")
+    List<Order> findAllWithItemsByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,53 @@
+package demo.cafemenu.domain.order.service;
+
+import static demo.cafemenu.domain.order.entity.OrderStatus.PENDING;
+
+import demo.cafemenu.domain.order.dto.OrderDto;
+import demo.cafemenu.domain.order.entity.Order;
+import demo.cafemenu.domain.order.repository.OrderRepository;
+import demo.cafemenu.domain.product.entity.Product;
+import demo.cafemenu.domain.product.repository.ProductRepository;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 장바구니 조회 전용 읽기 모델.
+ * - 주문/고객/품목: OrderRepository 엔티티 그래프 1회
+ * - 상품명: 등장한 productId 를 모아 findAllById 1회
+ * → 품목 수와 관계없이 쿼리 2번으로 OrderDto/OrderItemDto 트리 구성
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CartQueryService {
+
+    private final OrderRepository orderRepository;
+    private final ProductRepository productRepository;
+
+    public List<OrderDto> getPendingOrders(Long userId) {
+        List<Order> orders = orderRepository.findWithItemsByUserIdAndStatus(userId, PENDING);
+        Map<Long, String> productNames = findProductNames(orders);
+
+        return orders.stream()
+                .map(order -> OrderDto.withItems(order, productNames))
+                .toList();
+    }
+
+    // 주문들에 담긴 상품명을 한 번에 조회 (productId → 상품명)
+    public Map<Long, String> findProductNames(Collection<Order> orders) {
+        Set<Long> productIds = new HashSet<>();
+        orders.forEach(order -> order.getItems().forEach(item -> productIds.add(item.getProductId())));
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        return productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Product::getName));
+    }
+}
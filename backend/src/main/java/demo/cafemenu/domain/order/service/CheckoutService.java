@@ -0,0 +1,28 @@
+package demo.cafemenu.domain.order.service;
+
+import demo.cafemenu.domain.order.cart.CartEngine;
+import demo.cafemenu.domain.order.dto.CheckoutRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 결제 진입점 (트랜잭션 없음).
+ * write-behind 모드의 메모리 장바구니 반영은 자체 트랜잭션으로 먼저 끝내고, 그 다음 결제 트랜잭션을 시작
+ * → 한 요청이 커넥션을 둘 이상 동시에 쥐지 않음. 결제가 끝나면(성공/실패) 메모리 장바구니를 다시 적재 대상으로
+ */
+@Service
+@RequiredArgsConstructor
+public class CheckoutService {
+
+    private final CartEngine cartEngine;
+    private final OrderService orderService;
+
+    public void checkout(Long userId, CheckoutRequest req) {
+        cartEngine.beginCheckout(userId);
+        try {
+            orderService.checkoutAllPending(userId, req);
+        } finally {
+            cartEngine.endCheckout(userId);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package demo.cafemenu.domain.order.service;
+
+import demo.cafemenu.domain.order.entity.OrderStatus;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 관리자 주문 내보내기 (CSV / NDJSON).
+ * - orders + order_items + 상품명을 forward-only JDBC 커서로 읽어 바로 출력 스트림에 기록
+ *   → 엔티티/영속성 컨텍스트를 거치지 않아 행 수와 무관하게 메모리 일정
+ * - 품목 1건 = 1행 (스프레드시트에서 바로 피벗 가능하도록 평탄화)
+ * - flush-rows 행마다 flush → 대용량이어도 첫 바이트가 바로 클라이언트에 도착
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderExportService {
+
+    public enum Format { CSV, NDJSON }
+
+    private static final String[] COLUMNS = {
+        "order_id", "email", "batch_date", "status", "total_amount", "shipping_address",
+        "shipping_postcode", "product_id", "product_name", "unit_price", "quantity", "line_amount"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Value("${app.export.flush-rows:500}")
+    private int flushRows;
+
+    public void export(LocalDate from, LocalDate to, OrderStatus status, Format format, OutputStream out) {
+        StringBuilder sql = new StringBuilder("""
+            select o.id, u.email, o.batch_date, o.status, o.total_amount, o.shipping_address,
+                   o.shipping_postcode, i.product_id, p.name, i.unit_price, i.quantity
+            from orders o
+            join users u on u.id = o.user_id
+            left join order_items i on i.order_id = o.id
+            left join products p on p.id = i.product_id
+            where 1 = 1
+            """);
+        List<Object> params = new ArrayList<>();
+        if (from != null) {
+            sql.append(" and o.batch_date >= ?");
+            params.add(Date.valueOf(from));
+        }
+        if (to != null) {
+            sql.append(" and o.batch_date <= ?");
+            params.add(Date.valueOf(to));
+        }
+        if (status != null) {
+            sql.append(" and o.status = ?");
+            params.add(status.name());
+        }
+        sql.append(" order by o.id, i.id");
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 32 * 1024);
+        try {
+            if (format == Format.CSV) {
+                writer.write(String.join(",", COLUMNS));
+                writer.write('\n');
+            }
+            writer.flush();
+
+            int[] sinceFlush = {0};
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(sql.toString(),
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                for (int i = 0; i < params.size(); i++) {
+                    ps.setObject(i + 1, params.get(i));
+                }
+                return ps;
+            }, rs -> {
+                try {
+                    Object[] row = readRow(rs);
+                    if (format == Format.CSV) {
+                        writeCsv(writer, row);
+                    } else {
+                        writeJson(writer, row);
+                    }
+                    if (++sinceFlush[0] >= flushRows) {
+                        writer.flush();
+                        sinceFlush[0] = 0;
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Object[] readRow(ResultSet rs) throws SQLException {
+        Long productId = rs.getObject(8, Long.class);
+        Integer unitPrice = rs.getObject(10, Integer.class);
+        Integer quantity = rs.getObject(11, Integer.class);
+        return new Object[]{
+            rs.getLong(1),
+            rs.getString(2),
+            rs.getDate(3).toLocalDate(),
+            rs.getString(4),
+            rs.getInt(5),
+            rs.getString(6),
+            rs.getString(7),
+            productId,
+            rs.getString(9),
+            unitPrice,
+            quantity,
+            unitPrice == null || quantity == null ? null : unitPrice * quantity
+        };
+    }
+
+    private void writeCsv(Writer writer, Object[] row) throws IOException {
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (row[i] instanceof Number) {
+                writer.write(row[i].toString());
+            } else if (row[i] != null) {
+                writer.write(csvEscape(row[i].toString()));
+            }
+        }
+        writer.write('\n');
+    }
+
+    private void writeJson(Writer writer, Object[] row) throws IOException {
+        writer.write('{');
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write('"');
+            writer.write(COLUMNS[i]);
+            writer.write("\":");
+            Object value = row[i];
+            if (value == null) {
+                writer.write("null");
+            } else if (value instanceof Number) {
+                writer.write(value.toString());
+            } else {
+                writer.write(jsonString(value.toString()));
+            }
+        }
+        writer.write("}\n");
+    }
+
+    // 문자열 셀 이스케이프 — 수식으로 해석될 수 있는 값(=,+,-,@,TAB,CR 시작)은 ' 를 붙여 텍스트로 고정하고 따옴표로 감쌈 (CSV injection 방지)
+    static String csvEscape(String value) {
+        if (isFormulaLike(value)) {
+            return "\"'" + value.replace("\"", "\"\"") + '"';
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+            && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static boolean isFormulaLike(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        char first = value.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+
+    private String jsonString(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
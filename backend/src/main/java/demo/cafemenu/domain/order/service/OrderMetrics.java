@@ -0,0 +1,61 @@
+package demo.cafemenu.domain.order.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 주문 비즈니스 지표 (Micrometer → /actuator/prometheus).
+ * - cafe.carts.created: 새 PENDING 장바구니 생성 수
+ * - cafe.checkouts: 결제 완료 수
+ * - cafe.checkout.items: 결제 1건당 품목 수량 합 (분포)
+ * 모두 커밋 후에만 기록 (롤백된 시도는 세지 않음)
+ */
+@Component
+public class OrderMetrics {
+
+    private final Counter cartsCreated;
+    private final Counter checkouts;
+    private final DistributionSummary itemsPerCheckout;
+
+    public OrderMetrics(MeterRegistry registry) {
+        this.cartsCreated = Counter.builder("cafe.carts.created")
+                .description("PENDING carts created")
+                .register(registry);
+        this.checkouts = Counter.builder("cafe.checkouts")
+                .description("Completed checkouts")
+                .register(registry);
+        this.itemsPerCheckout = DistributionSummary.builder("cafe.checkout.items")
+                .description("Item quantity per checkout")
+                .baseUnit("items")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+    }
+
+    public void cartCreatedAfterCommit() {
+        afterCommit(cartsCreated::increment);
+    }
+
+    public void checkoutAfterCommit(int items) {
+        afterCommit(() -> {
+            checkouts.increment();
+            itemsPerCheckout.record(items);
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
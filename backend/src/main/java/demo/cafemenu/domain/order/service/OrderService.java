@@ -4,25 +4,36 @@ import static demo.cafemenu.domain.order.entity.OrderStatus.PAID;
 import static demo.cafemenu.domain.order.entity.OrderStatus.PENDING;
 import static demo.cafemenu.global.exception.ErrorCode.*;
 
+import demo.cafemenu.domain.order.batch.ShippingBatches;
+import demo.cafemenu.domain.order.cart.CartEngine;
+import demo.cafemenu.domain.order.cart.CartVersions;
+import demo.cafemenu.domain.order.dto.CartOperation;
+import demo.cafemenu.domain.order.dto.CartUpdateRequest;
 import demo.cafemenu.domain.order.dto.CheckoutRequest;
+import demo.cafemenu.domain.order.dto.OrderCursor;
 import demo.cafemenu.domain.order.dto.OrderDto;
-import demo.cafemenu.domain.order.dto.OrderItemDto;
+import demo.cafemenu.domain.order.dto.PaidOrderPage;
 import demo.cafemenu.domain.order.entity.Order;
 import demo.cafemenu.domain.order.entity.OrderItem;
-import demo.cafemenu.domain.order.entity.OrderStatus;
 import demo.cafemenu.domain.order.repository.OrderItemRepository;
 import demo.cafemenu.domain.order.repository.OrderRepository;
 import demo.cafemenu.domain.product.entity.Product;
 import demo.cafemenu.domain.product.repository.ProductRepository;
-import demo.cafemenu.domain.user.entity.User;
-import demo.cafemenu.domain.user.reposiitory.UserRepository;
+import demo.cafemenu.domain.product.stock.StockLedger;
 import demo.cafemenu.global.exception.BusinessException;
-import demo.cafemenu.global.exception.ErrorCode;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -30,97 +41,214 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class OrderService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final OrderRepository orderRepository;
     private final ProductRepository productRepository;
-    private final UserRepository userRepository;
     private final OrderItemRepository orderItemRepository;
+    private final CartEngine cartEngine;
+    private final CartQueryService cartQueryService;
+    private final CartVersions cartVersions;
+    private final StockLedger stockLedger;
+    private final OrderMetrics orderMetrics;
+    private final ShippingBatches shippingBatches;
 
     /* 주문 내역 조회
-    - status가 PAID인 것만
+    - status가 PAID인 것만, (batchDate, id) 내림차순 keyset 페이지
+    - 1) 인덱스 범위 스캔으로 이번 페이지 주문 id 만 조회 (size + 1 로 다음 페이지 여부 판단)
+    - 2) 해당 id 들의 주문 + 품목을 fetch join 한 번으로 조회
+    - MySQL 은 IN 서브쿼리에 LIMIT 을 허용하지 않아 두 단계로 나눔
+    - 내역이 없으면 빈 페이지
      */
-    @Transactional
-    public List<OrderDto> getPaidOrder(Long userId) {
-        User user = userRepository.findById(userId).get();
-        List<Order> paidOrder = orderRepository
-                .findAllByUserAndStatus(user, PAID);
-        if (paidOrder.isEmpty()) {
-            throw new BusinessException(ErrorCode.PAID_ORDERS_NOT_FOUND);
+    @Transactional(readOnly = true)
+    public PaidOrderPage getPaidOrder(Long userId, String cursor, int size) {
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Long> ids;
+        if (cursor == null || cursor.isBlank()) {
+            ids = orderRepository.findPageIds(userId, PAID, limit);
+        } else {
+            OrderCursor after = OrderCursor.decode(cursor);
+            ids = orderRepository.findPageIdsAfter(userId, PAID, after.batchDate(), after.orderId(), limit);
         }
-        return paidOrder.stream()
-                .map(OrderDto::from)
+
+        boolean hasNext = ids.size() > pageSize;
+        List<Long> pageIds = hasNext ? ids.subList(0, pageSize) : ids;
+        if (pageIds.isEmpty()) {
+            return new PaidOrderPage(List.of(), null);
+        }
+
+        List<OrderDto> orders = loadWithItems(pageIds);
+        OrderDto last = orders.get(orders.size() - 1);
+        String nextCursor = hasNext
+                ? new OrderCursor(last.getBatchDate(), last.getOrderId()).encode()
+                : null;
+        return new PaidOrderPage(orders, nextCursor);
+    }
+
+    /* 주문 내역 전체 (페이지 파라미터 없는 기존 호출)
+    - id 목록을 한 번에 읽고, 주문 + 품목은 MAX_PAGE_SIZE 개씩 fetch join (IN 목록 크기 제한)
+     */
+    @Transactional(readOnly = true)
+    public List<OrderDto> getAllPaidOrders(Long userId) {
+        List<Long> ids = orderRepository.findPageIds(userId, PAID, Pageable.unpaged());
+        List<OrderDto> orders = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += MAX_PAGE_SIZE) {
+            orders.addAll(loadWithItems(ids.subList(from, Math.min(from + MAX_PAGE_SIZE, ids.size()))));
+        }
+        return orders;
+    }
+
+    // id 순서를 유지한 채 주문 + 품목 + 상품명 조회
+    private List<OrderDto> loadWithItems(List<Long> ids) {
+        Map<Long, Order> byId = orderRepository.findAllWithItemsByIdIn(ids).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+        Map<Long, String> productNames = cartQueryService.findProductNames(byId.values());
+
+        return ids.stream()
+                .map(byId::get)
+                .map(order -> OrderDto.withItems(order, productNames))
                 .toList();
     }
 
     /* 장바구니 상품 추가
     - 목록 있으면 수량만 +1, 없으면 생성
+    - order_items upsert(uk_orderitem_order_product) + orders.total_amount 증분 갱신
+      → 동시 클릭도 DB 행 잠금으로 직렬화, 주문 전체 재적재 없음
      */
     public void addOrderItem(Long userId, Long productId) {
-        Order order = getOrder(userRepository.findById(userId).get());
-        Product product = productRepository.findById(productId).get();
-        OrderItem existOrderItem = findOrderItem(order, productId);
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new BusinessException(PRODUCT_NOT_FOUND));
 
-        if (existOrderItem != null) {
-            existOrderItem.addQuantity(1);
-        } else {
-            OrderItem newOrderItem = createOrderItem(order, product);
-            order.getItems().add(newOrderItem);
+        cartVersions.bumpAfterCommit(userId);
+        // 한정 수량 상품이면 재고 1개 예약 (부족하면 OUT_OF_STOCK, 롤백 시 자동 반환)
+        stockLedger.reserve(userId, productId, 1);
+        if (cartEngine.isEnabled()) {
+            cartEngine.add(userId, product);
+            return;
         }
-        order.recalcTotal();
-        orderRepository.save(order);
+
+        LocalDate today = LocalDate.now();
+        Long orderId = getPendingOrderId(userId, today);
+        orderItemRepository.upsertIncrement(orderId, productId, product.getPrice(), today);
+        orderRepository.addLinePrice(orderId, productId, today);
     }
 
     /* 장바구니 상품 삭제
-    - 목록 있으면 수량만 -1, 없으면 생성
+    - 목록 있으면 수량만 -1, 0 이 되면 라인 삭제
+    - quantity > 0 조건부 감소라 동시 삭제 요청에도 음수가 되지 않음
      */
     public void removeFromCart(Long userId, Long productId) {
-        User customer = userRepository.findById(userId).get();
-        List<Order> orders = orderRepository.findAllByUserAndStatus(customer, PENDING);
-        boolean isExist = false;
-
-        for (Order order : orders) {
-            OrderItem existOrderItem = findOrderItem(order, productId);
-
-            if (existOrderItem != null) {
-                existOrderItem.addQuantity(-1);
-                if (existOrderItem.getQuantity() <= 0) {
-                    order.getItems().remove(existOrderItem);
-                    orderItemRepository.delete(existOrderItem);
-                }
-                order.recalcTotal();
-                orderRepository.save(order);
-                isExist = true;
-                break;
-            }
+        cartVersions.bumpAfterCommit(userId);
+        stockLedger.releaseAfterCommit(userId, productId, 1);
+        if (cartEngine.isEnabled()) {
+            cartEngine.remove(userId, productId);
+            return;
         }
-        if (!isExist) {
+
+        LocalDate today = LocalDate.now();
+        Long orderId = orderItemRepository.findPendingOrderIdContaining(userId, productId)
+                .orElseThrow(() -> new BusinessException(PENDING_PRODUCT_NOT_FOUND));
+
+        // orders 행을 먼저 잠그고(총액 차감) 품목 감소 — 감소 실패 시 예외로 함께 롤백
+        orderRepository.subtractLinePrice(orderId, productId, today);
+        if (orderItemRepository.decrementQuantity(orderId, productId, today) == 0) {
             throw new BusinessException(PENDING_PRODUCT_NOT_FOUND);
         }
+        orderItemRepository.deleteIfEmpty(orderId, productId);
+    }
+
+    /* 장바구니 일괄 변경
+    - productId 별 delta(증감) 또는 quantity(절대 수량)를 한 트랜잭션에서 적용 (오늘자 PENDING 주문 기준)
+    - 상품은 findAllById 한 번으로 검증, 모든 연산을 검증한 뒤 적용
+    - DB 경로는 PENDING 주문 행 잠금을 어떤 조회보다 먼저 잡음
+      (REPEATABLE READ 스냅샷이 잠금 전에 만들어지면 뒤이은 장바구니 조회가 잠금 이전 상태를 읽으므로)
+    - 변경된 장바구니를 그대로 반환
+     */
+    public List<OrderDto> updateCart(Long userId, CartUpdateRequest req) {
+        cartVersions.bumpAfterCommit(userId);
+
+        if (cartEngine.isEnabled()) {
+            Map<Long, Product> products = findProducts(req.operations());
+            cartEngine.update(userId, req.operations(), products, deltas -> stockLedger.apply(userId, deltas));
+            return cartEngine.read(userId);
+        }
+
+        Long orderId = getPendingOrderId(userId, LocalDate.now());
+        Map<Long, Product> products = findProducts(req.operations());
+        Order order = orderRepository.findWithItemsById(orderId)
+                .orElseThrow(() -> new BusinessException(PENDING_ORDERS_NOT_FOUND));
+
+        Map<Long, Integer> targets = CartOperation.resolveTargets(req.operations(), productId -> {
+            OrderItem item = order.findItem(productId);
+            return item == null ? 0 : item.getQuantity();
+        });
+        Map<Long, Integer> deltas = new HashMap<>();
+        targets.forEach((productId, quantity) -> {
+            OrderItem item = order.findItem(productId);
+            deltas.put(productId, quantity - (item == null ? 0 : item.getQuantity()));
+        });
+        stockLedger.apply(userId, deltas);
+
+        targets.forEach((productId, quantity) -> {
+            if (order.findItem(productId) != null) {
+                order.changeItemQuantity(productId, quantity);
+            } else if (quantity > 0) {
+                order.addItem(productId, products.get(productId).getPrice(), quantity);
+            }
+        });
+
+        return cartQueryService.getPendingOrders(userId);
     }
 
     /**
      * 사용자의 모든 PENDING 주문을 결제 처리.
-     * - 날짜별로 이미 PAID가 있으면 아이템을 머지하고 PENDING은 삭제(UNIQUE 충돌 방지)
-     * - 없으면 해당 PENDING을 그대로 PAID로 전환
+     * - 결제 시각 기준 배송 배치일(ShippingBatches: 마감 전 오늘, 마감 후 다음 날)의 PAID 한 건으로 모음
+     *   (장바구니를 담은 날짜와 무관 — 마감 뒤 결제가 이미 만든 매니페스트의 날짜로 들어가지 않음)
+     * - 그 배치일에 이미 PAID가 있으면 아이템을 머지하고 PENDING은 삭제(UNIQUE 충돌 방지)
+     * - 없으면 첫 PENDING을 PAID로 전환하면서 배치일을 옮기고, 나머지 PENDING은 거기로 머지
      * - 배송지/우편번호는 다음 정책으로 반영:
      *   * PENDING → PAID 전환 시: 요청값으로 설정
      *   * 기존 PAID로 머지 시: PAID에 배송지가 없으면 설정, 이미 있으면 유지(간단 정책)
+     * - write-behind 모드에서는 CheckoutService 를 거쳐 호출 (메모리 장바구니 반영 후 이 트랜잭션 시작)
      */
     public void checkoutAllPending(Long userId, CheckoutRequest req) {
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new BusinessException(USER_NOT_FOUND));
+        cartVersions.bumpAfterCommit(userId);
+        // 예약해 둔 한정 재고는 판매 확정
+        stockLedger.consumeAfterCommit(userId);
+
+        // PENDING 주문 행부터 잠금 — 담기/빼기(네이티브 upsert + 총액 증분)가 조회와 flush 사이에 끼어들지 못하게
+        Set<Long> lockedIds = Set.copyOf(orderRepository.findPendingOrderIdsForUpdate(userId));
+
+        // 사용자의 PENDING 주문 + 이번 배송 배치일의 PAID 주문을 품목까지 한 번에 조회
+        LocalDate shipDate = shippingBatches.current();
+        List<Order> targets = orderRepository.findCheckoutTargets(userId, PENDING, PAID, shipDate);
 
-        List<Order> pendings = orderRepository.findAllByUserAndStatus(user, PENDING);
+        List<Order> pendings = new ArrayList<>();
+        Order paid = null;
+        for (Order order : targets) {
+            if (order.getStatus() != PENDING) {
+                paid = order;
+            } else if (lockedIds.contains(order.getId())) {
+                // 잠금 뒤에 새로 생긴 PENDING 은 잠겨 있지 않으므로 다음 결제로 넘김
+                pendings.add(order);
+            }
+        }
         if (pendings.isEmpty()) {
             throw new BusinessException(PENDING_ORDERS_NOT_FOUND);
         }
-
+        int itemCount = 0;
         for (Order pending : pendings) {
-            Optional<Order> paidOpt = orderRepository.findByUserAndStatusAndBatchDate(
-                user, PAID, pending.getBatchDate());
-
-            if (paidOpt.isPresent()) {
-                Order paid = paidOpt.get();
+            for (OrderItem item : pending.getItems()) {
+                itemCount += item.getQuantity();
+            }
+        }
+        orderMetrics.checkoutAfterCommit(itemCount);
 
+        List<Order> mergedPendings = new ArrayList<>();
+        for (Order pending : pendings) {
+            if (paid != null) {
                 // 아이템 머지
                 mergeItems(pending, paid);
 
@@ -129,112 +257,94 @@ public class OrderService {
                     paid.updateShipping(req.shippingAddress(), req.shippingPostcode());
                 }
 
-                paid.recalcTotal();
-                orderRepository.delete(pending); // UNIQUE(user,batch_date,status) 충돌 방지
+                mergedPendings.add(pending);
 
             } else {
-                // PENDING → PAID 전환
+                // PENDING → PAID 전환 + 배송 배치일 확정
                 pending.changeStatus(PAID);
+                pending.moveToBatch(shipDate);
                 pending.updateShipping(req.shippingAddress(), req.shippingPostcode());
-                pending.recalcTotal();
+                paid = pending;
             }
         }
+
+        // UNIQUE(user,batch_date,status) 충돌 방지 — 머지된 PENDING 은 삭제 (jdbc batch 로 묶여 실행)
+        orderRepository.deleteAll(mergedPendings);
     }
 
+    // Order 의 productId 인덱스로 머지 (라인당 O(1), 총액도 증분 반영)
     private void mergeItems(Order fromPending, Order toPaid) {
-        fromPending.getItems().forEach(pi -> {
-            OrderItem exist = toPaid.getItems().stream()
-                .filter(x -> x.getProductId().equals(pi.getProductId()))
-                .findFirst()
-                .orElse(null);
-
-            if (exist != null) {
-                exist.addQuantity(pi.getQuantity());
-            } else {
-                OrderItem added = OrderItem.builder()
-                    .order(toPaid)
-                    .productId(pi.getProductId())
-                    .unitPrice(pi.getUnitPrice())
-                    .quantity(pi.getQuantity())
-                    .build();
-                toPaid.getItems().add(added);
-            }
-        });
+        fromPending.getItems().forEach(pi ->
+            toPaid.addItem(pi.getProductId(), pi.getUnitPrice(), pi.getQuantity()));
     }
 
-    // PENDING 주문 조회 (없으면 새로 생성)
-    private Order getOrder(User user) {
-        LocalDate today = LocalDate.now();
-        Optional<Order> order = orderRepository.findByUserAndStatusAndBatchDate(user, PENDING, today);
+    // 오늘자 PENDING 주문 id 조회 + 행 잠금 (없으면 새로 생성)
+    private Long getPendingOrderId(Long userId, LocalDate today) {
+        return orderRepository.findPendingOrderIdForUpdate(userId, today)
+                .orElseGet(() -> {
+                    // 동시 생성 시 uk_order_user_date_status 충돌은 insert ignore 로 흡수
+                    // 실제로 insert 된 경우(1)만 장바구니 생성으로 집계
+                    if (orderRepository.insertPendingIfAbsent(userId, today) == 1) {
+                        orderMetrics.cartCreatedAfterCommit();
+                    }
+                    return orderRepository.findPendingOrderIdForUpdate(userId, today)
+                            .orElseThrow(() -> new BusinessException(PENDING_ORDERS_NOT_FOUND));
+                });
+    }
 
-        if (order.isPresent()) {
-            return order.get();
-        } else {
-            Order newOrder = Order.builder()
-                    .user(user)
-                    .batchDate(today)
-                    .status(PENDING)
-                    .build();
-            return orderRepository.save(newOrder);
+    // 요청된 상품 일괄 조회 (없는 상품이 있으면 PRODUCT_NOT_FOUND)
+    private Map<Long, Product> findProducts(List<CartOperation> operations) {
+        Set<Long> productIds = operations.stream()
+                .map(CartOperation::productId)
+                .collect(Collectors.toSet());
+        Map<Long, Product> products = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        if (products.size() != productIds.size()) {
+            throw new BusinessException(PRODUCT_NOT_FOUND);
         }
+        return products;
     }
 
-    // 같은 상품 목록 조회
-    private OrderItem findOrderItem(Order order, Long productId) {
-        return order.getItems().stream()
-                .filter(item -> item.getProductId().equals(productId))
-                .findFirst()
-                .orElse(null);
+    /* 재고 예약 만료 — 해당 상품 라인을 사용자의 모든 PENDING 장바구니에서 제거하고 재고 반환
+    - 장바구니 변경과 같은 순서로 PENDING 주문 행을 먼저 잠그고 네이티브 SQL 로 총액 차감 + 라인 삭제
+      (엔티티 flush 가 동시 담기의 수량/총액 증분을 덮어쓰지 않도록)
+    - 반환 수량은 잠근 뒤 읽은 라인 수량 (StockLedger 가 예약분 한도 내에서 반영)
+     */
+    public void expireHold(Long userId, Long productId) {
+        int removed = 0;
+        if (cartEngine.isEnabled()) {
+            removed = cartEngine.removeLine(userId, productId);
+        } else {
+            LocalDate today = LocalDate.now();
+            for (Long orderId : orderRepository.findPendingOrderIdsForUpdate(userId)) {
+                Integer quantity = orderItemRepository.findQuantity(orderId, productId).orElse(null);
+                if (quantity != null) {
+                    orderRepository.subtractLineAmount(orderId, productId, today);
+                    orderItemRepository.deleteLine(orderId, productId);
+                    removed += quantity;
+                }
+            }
+        }
+        stockLedger.releaseAfterCommit(userId, productId, removed);
+        stockLedger.dropHoldAfterCommit(userId, productId);
+        if (removed > 0) {
+            cartVersions.bumpAfterCommit(userId);
+        }
     }
 
-    // 장바구니 내 상품 없을 시 상품 생성
-    private OrderItem createOrderItem(Order order, Product product) {
-        return OrderItem.builder()
-                .order(order)
-                .productId(product.getId())
-                .unitPrice(product.getPrice())
-                .quantity(1)
-                .build();
+    // 장바구니 버전 (조회 ETag 용, 변경/결제 커밋마다 증가)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public long getCartVersion(Long userId) {
+        return cartVersions.current(userId);
     }
 
     // 장바구니(status = PENDING, 특정 Id로 조회)조회
     @Transactional(readOnly = true)
     public List<OrderDto> getPendingOrdersByUser(Long userId) {
-        List<Order> orders = orderRepository.findByUserIdAndStatus(userId, OrderStatus.PENDING);
-
-        return orders.stream()
-                .map(order -> {
-                    // DTO 생성
-                    OrderDto dto = new OrderDto(
-                            order.getId(),
-                            order.getUser().getEmail(),
-                            order.getBatchDate(),
-                            order.getTotalAmount(),
-                            order.getStatus()
-                    );
-
-                    List<OrderItemDto> itemDtos = order.getItems().stream()
-                            .map(item -> {
-                                String productName = productRepository.findById(item.getProductId())
-                                        .map(Product::getName)
-                                        .orElse("Unknown Product");
-
-                                return new OrderItemDto(
-                                        item.getId(),
-                                        item.getProductId(),
-                                        productName,
-                                        item.getUnitPrice(),
-                                        item.getQuantity(),
-                                        item.getLineAmount()
-                                );
-                            })
-                            .toList();
-
-                    dto.getItems().addAll(itemDtos);
-
-                    return dto;
-                })
-                .toList();
+        if (cartEngine.isEnabled()) {
+            return cartEngine.read(userId);
+        }
+        return cartQueryService.getPendingOrders(userId);
     }
 
 }
@@ -1,11 +1,19 @@
 package demo.cafemenu.domain.product.controller;
 
+import demo.cafemenu.domain.product.dto.ProductPage;
 import demo.cafemenu.domain.product.dto.ProductResponse;
+import demo.cafemenu.domain.product.service.ProductCatalog;
 import demo.cafemenu.domain.product.service.ProductService;
+import demo.cafemenu.global.web.ETags;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -13,10 +21,36 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class ProductController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
     private final ProductService productService;
 
+    /* 상품 목록 (카탈로그 버전 ETag — 변경 없으면 본문 직렬화 없이 304)
+    - 파라미터가 하나도 없으면 전체 목록 (기존 클라이언트 호환)
+    - q/sort/cursor/size 중 하나라도 있으면 검색 + keyset 페이지, 다음 페이지 커서는 X-Next-Cursor 헤더
+     */
     @GetMapping("/beans")
-    public List<ProductResponse> getProduct() {
-        return productService.getAll();
+    public ResponseEntity<List<ProductResponse>> getProduct(
+        @RequestParam(required = false) String q,
+        @RequestParam(required = false) String sort,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        ProductCatalog.Snapshot catalog = productService.getCatalog();
+        String etag = ETags.strong("catalog", catalog.version());
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(ETags.REVALIDATE).build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(etag).cacheControl(ETags.REVALIDATE);
+        if (q == null && sort == null && cursor == null && size == null) {
+            return response.body(catalog.products());
+        }
+        ProductPage page = productService.search(q, sort, cursor, size == null ? DEFAULT_PAGE_SIZE : size);
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.products());
     }
 }
@@ -0,0 +1,30 @@
+package demo.cafemenu.domain.product.dto;
+
+import static demo.cafemenu.global.exception.ErrorCode.INVALID_REQUEST;
+
+import demo.cafemenu.global.exception.BusinessException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 상품 목록 keyset 커서 — 마지막으로 내려준 상품의 (정렬 키, id).
+ * 클라이언트에는 "id:key" 를 base64url 로 감싼 불투명 문자열로 전달 (key 에 ':' 가 있어도 되도록 id 를 앞에)
+ */
+public record ProductCursor(String key, Long id) {
+
+    public String encode() {
+        String raw = id + ":" + key;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ProductCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(':');
+            return new ProductCursor(raw.substring(sep + 1), Long.parseLong(raw.substring(0, sep)));
+        } catch (RuntimeException e) {
+            throw new BusinessException(INVALID_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package demo.cafemenu.domain.product.dto;
+
+import java.util.List;
+
+/**
+ * 상품 일괄 등록 결과.
+ * errors 는 실패한 행별 사유 (최대 건수를 넘으면 errorsTruncated = true, 집계 건수는 항상 정확)
+ */
+public record ProductImportResult(
+    long total,
+    long imported,
+    long failed,
+    List<RowError> errors,
+    boolean errorsTruncated
+) {
+
+    /**
+     * @param row  데이터 행 번호 (헤더 제외, 1부터)
+     * @param name 해당 행의 제품명 (파싱 실패 시 null)
+     */
+    public record RowError(long row, String name, String message) {}
+}
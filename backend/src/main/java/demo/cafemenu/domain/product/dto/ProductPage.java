@@ -0,0 +1,12 @@
+package demo.cafemenu.domain.product.dto;
+
+import java.util.List;
+
+/**
+ * 상품 목록 한 페이지.
+ * nextCursor 가 null 이면 마지막 페이지
+ */
+public record ProductPage(
+    List<ProductResponse> products,
+    String nextCursor
+) {}
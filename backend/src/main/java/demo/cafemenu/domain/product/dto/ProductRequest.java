@@ -16,4 +16,10 @@ public record ProductRequest(
 
     @Size(max = 1000)
     String description
-) {}
+) {
+
+    // 제품명 앞뒤 공백 제거 — 등록/수정/일괄 등록 모두 이 값으로 검증, 중복 판단, 저장
+    public ProductRequest normalized() {
+        return new ProductRequest(name == null ? null : name.trim(), price, description);
+    }
+}
@@ -1,5 +1,12 @@
 package demo.cafemenu.domain.product.dto;
 
+import demo.cafemenu.domain.product.entity.Product;
+
 public record ProductResponse(
     Long id, String name, Integer price, String description
-) {}
+) {
+
+    public static ProductResponse from(Product p) {
+        return new ProductResponse(p.getId(), p.getName(), p.getPrice(), p.getDescription());
+    }
+}
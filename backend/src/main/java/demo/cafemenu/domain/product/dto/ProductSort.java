@@ -0,0 +1,68 @@
+package demo.cafemenu.domain.product.dto;
+
+import static demo.cafemenu.global.exception.ErrorCode.INVALID_REQUEST;
+
+import demo.cafemenu.global.exception.BusinessException;
+import java.util.Comparator;
+
+/**
+ * 상품 목록 정렬 (sort 파라미터: id, name, price, -price).
+ * 모든 정렬은 id 를 마지막 기준으로 포함 → keyset 커서가 항상 한 위치를 가리킴
+ */
+public enum ProductSort {
+
+    ID("id", Comparator.comparing(ProductResponse::id)),
+    NAME("name", Comparator.comparing(ProductResponse::name)
+        .thenComparing(ProductResponse::id)),
+    PRICE_ASC("price", Comparator.comparing(ProductResponse::price)
+        .thenComparing(ProductResponse::id)),
+    PRICE_DESC("-price", Comparator.comparing(ProductResponse::price, Comparator.reverseOrder())
+        .thenComparing(ProductResponse::id));
+
+    private final String param;
+    private final Comparator<ProductResponse> comparator;
+
+    ProductSort(String param, Comparator<ProductResponse> comparator) {
+        this.param = param;
+        this.comparator = comparator;
+    }
+
+    public Comparator<ProductResponse> comparator() {
+        return comparator;
+    }
+
+    public static ProductSort from(String param) {
+        if (param == null || param.isBlank()) {
+            return ID;
+        }
+        for (ProductSort sort : values()) {
+            if (sort.param.equalsIgnoreCase(param.trim())) {
+                return sort;
+            }
+        }
+        throw new BusinessException(INVALID_REQUEST);
+    }
+
+    // 커서에 담을 정렬 키 (id 정렬은 id 만으로 충분)
+    public String keyOf(ProductResponse p) {
+        return switch (this) {
+            case ID -> "";
+            case NAME -> p.name();
+            case PRICE_ASC, PRICE_DESC -> String.valueOf(p.price());
+        };
+    }
+
+    // 커서 위치를 나타내는 비교용 값
+    public ProductResponse probe(ProductCursor cursor) {
+        try {
+            return switch (this) {
+                case ID -> new ProductResponse(cursor.id(), null, null, null);
+                case NAME -> new ProductResponse(cursor.id(), cursor.key(), null, null);
+                case PRICE_ASC, PRICE_DESC ->
+                    new ProductResponse(cursor.id(), null, Integer.parseInt(cursor.key()), null);
+            };
+        } catch (NumberFormatException e) {
+            throw new BusinessException(INVALID_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package demo.cafemenu.domain.product.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+
+public record StockRequest(
+    @NotNull(message = "재고 수량은 필수 입력 항목입니다.")
+    @PositiveOrZero
+    Integer quantity
+) {}
@@ -0,0 +1,8 @@
+package demo.cafemenu.domain.product.dto;
+
+/**
+ * 한정 수량 재고 현황 (available 은 메모리 카운터 기준)
+ */
+public record StockResponse(
+    Long productId, Integer quantity, Integer available
+) {}
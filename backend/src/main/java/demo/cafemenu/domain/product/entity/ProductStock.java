@@ -0,0 +1,48 @@
+package demo.cafemenu.domain.product.entity;
+
+import demo.cafemenu.global.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 한정 수량 상품 재고 (행이 없는 상품은 무제한).
+ * - quantity: 관리자가 지정한 판매 수량 (지정 시점에 장바구니에 담겨 있던 수량도 여기서 차감)
+ * - paidBaseline: 처음 수량 지정 시점까지 이미 결제된 수량 (이후 결제분만 재고에서 차감, 재지정 시에는 유지)
+ * - available: StockLedger 메모리 카운터의 write-behind 사본
+ * 실제 남은 수량 = quantity - (현재 결제 수량 - paidBaseline) - 현재 장바구니 수량 → 기동 시 이 값으로 재계산
+ */
+@Entity
+@Table(name = "product_stock")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ProductStock extends BaseTimeEntity {
+
+  @Id
+  @Column(name = "product_id")
+  private Long productId;
+
+  @Column(nullable = false)
+  private Integer quantity;
+
+  @Column(name = "paid_baseline", nullable = false)
+  private Long paidBaseline;
+
+  @Column(nullable = false)
+  private Integer available;
+
+  public void restock(int quantity, long paidBaseline, int available) {
+    this.quantity = quantity;
+    this.paidBaseline = paidBaseline;
+    this.available = available;
+  }
+
+}
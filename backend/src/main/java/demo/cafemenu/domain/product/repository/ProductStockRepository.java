@@ -0,0 +1,16 @@
+package demo.cafemenu.domain.product.repository;
+
+import demo.cafemenu.domain.product.entity.ProductStock;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProductStockRepository extends JpaRepository<ProductStock, Long> {
+
+  // 재고 지정끼리 직렬화 (이전 지정 수량 기준으로 변화량을 계산하므로)
+  @Query(value = "select * from product_stock where product_id = :productId for update", nativeQuery = true)
+  Optional<ProductStock> findForUpdate(@Param("productId") Long productId);
+}
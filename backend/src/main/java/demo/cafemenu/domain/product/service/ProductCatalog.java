@@ -0,0 +1,109 @@
+package demo.cafemenu.domain.product.service;
+
+import demo.cafemenu.domain.product.dto.ProductResponse;
+import demo.cafemenu.domain.product.repository.ProductRepository;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 상품 카탈로그 인메모리 스냅샷.
+ * - 불변 스냅샷(버전 + ProductResponse 목록)을 AtomicReference 로 보관 → 조회는 락 없이 참조만 읽음
+ * - 최초 조회(콜드 미스)는 동시에 몰려도 DB 조회 1회만 수행하고 나머지는 그 결과를 기다림
+ * - 스냅샷마다 검색/정렬 인덱스(ProductSearchIndex)를 함께 생성
+ * - 관리자 등록/수정/삭제 커밋 후 새 스냅샷(+ 인덱스)으로 교체, 버전은 단조 증가
+ *   (늦게 끝난 이전 재적재가 최신 스냅샷을 덮어쓰지 않도록 버전이 큰 쪽만 반영)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCatalog {
+
+    public record Snapshot(long version, List<ProductResponse> products, ProductSearchIndex index) {}
+
+    private final ProductRepository productRepository;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<Snapshot>> loading = new AtomicReference<>();
+    private final AtomicLong versions = new AtomicLong();
+
+    public Snapshot current() {
+        Snapshot current = snapshot.get();
+        return current != null ? current : loadOnce();
+    }
+
+    // 카탈로그 버전 (스냅샷을 적재하지 않음) — 상품 변경 반영(재적재)마다 증가
+    public long version() {
+        return versions.get();
+    }
+
+    public List<ProductResponse> products() {
+        return current().products();
+    }
+
+    /**
+     * 상품 변경 트랜잭션 커밋 후 스냅샷 교체 (롤백되면 그대로 유지).
+     * 트랜잭션 밖에서 호출하면 바로 교체
+     */
+    public void refreshAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reload();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    reload();
+                } catch (RuntimeException e) {
+                    // 교체 실패 시 다음 조회가 DB 에서 다시 읽도록 비움
+                    log.error("Failed to refresh product catalog, invalidating", e);
+                    snapshot.set(null);
+                }
+            }
+        });
+    }
+
+    // 콜드 미스 single-flight: 먼저 들어온 요청만 DB 조회, 나머지는 같은 future 대기
+    private Snapshot loadOnce() {
+        CompletableFuture<Snapshot> mine = new CompletableFuture<>();
+        CompletableFuture<Snapshot> inFlight = loading.compareAndExchange(null, mine);
+        if (inFlight != null) {
+            try {
+                return inFlight.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException re ? re : e;
+            }
+        }
+        try {
+            Snapshot current = snapshot.get();
+            Snapshot loaded = current != null ? current : reload();
+            mine.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.compareAndSet(mine, null);
+        }
+    }
+
+    private Snapshot reload() {
+        // 조회 시작 전에 버전을 받아야 더 늦게 시작한(= 더 최신) 조회가 항상 이김
+        long version = versions.incrementAndGet();
+        List<ProductResponse> products = productRepository.findAll(Sort.by("id")).stream()
+            .map(ProductResponse::from)
+            .toList();
+        Snapshot loaded = new Snapshot(version, products, new ProductSearchIndex(products));
+        return snapshot.accumulateAndGet(loaded,
+            (cur, next) -> cur == null || next.version() > cur.version() ? next : cur);
+    }
+}
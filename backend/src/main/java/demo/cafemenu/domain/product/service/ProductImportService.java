@@ -0,0 +1,316 @@
+package demo.cafemenu.domain.product.service;
+
+import static demo.cafemenu.global.exception.ErrorCode.DUPLICATE_PRODUCT_NAME;
+import static demo.cafemenu.global.exception.ErrorCode.INVALID_REQUEST;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import demo.cafemenu.domain.product.dto.ProductImportResult;
+import demo.cafemenu.domain.product.dto.ProductImportResult.RowError;
+import demo.cafemenu.domain.product.dto.ProductRequest;
+import demo.cafemenu.global.exception.BusinessException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 관리자 상품 일괄 등록 (CSV / NDJSON).
+ * - 요청 본문을 한 행씩 읽어 처리 (전체 적재 없음)
+ * - 행마다 제품명 정규화(ProductRequest.normalized) 후 제약조건 검증, 제품명 중복은 시작 시 한 번 읽은 이름 집합으로 판단 (파일 내 중복 포함)
+ *   동시에 등록된 상품과의 중복은 uk_product_name 위반 → DUPLICATE_PRODUCT_NAME (전체 롤백)
+ * - 통과한 행은 batch-size 단위 JDBC batch insert (IDENTITY 라 Hibernate 배치가 안 되는 문제 회피)
+ * - 실패한 행은 건너뛰고 행 번호별 사유를 모아 반환, 전체는 한 트랜잭션
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductImportService {
+
+    public enum Format { CSV, NDJSON }
+
+    private static final String INSERT_SQL = """
+        insert into products (name, price, description, created_at, updated_at)
+        values (?, ?, ?, ?, ?)
+        """;
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ProductCatalog productCatalog;
+
+    @Value("${app.product-import.batch-size:500}")
+    private int batchSize;
+
+    @Transactional
+    public ProductImportResult importProducts(InputStream in, Format format) {
+        long startNanos = System.nanoTime();
+        Set<String> names = new HashSet<>(jdbcTemplate.queryForList("select name from products", String.class));
+        Report report = new Report();
+        List<ProductRequest> pending = new ArrayList<>(batchSize);
+        Date today = Date.valueOf(LocalDate.now());
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            RowReader rows = format == Format.CSV ? new CsvRowReader(reader) : new NdjsonRowReader(reader);
+            long row = 0;
+            ParsedRow parsed;
+            while ((parsed = rows.next()) != null) {
+                row++;
+                report.total++;
+                if (parsed.error() != null) {
+                    report.fail(row, null, parsed.error());
+                    continue;
+                }
+                ProductRequest req = parsed.request().normalized();
+                String violation = validate(req);
+                if (violation != null) {
+                    report.fail(row, req.name(), violation);
+                    continue;
+                }
+                if (!names.add(req.name())) {
+                    report.fail(row, req.name(), "이미 존재하는 상품명입니다.");
+                    continue;
+                }
+                pending.add(req);
+                if (pending.size() >= batchSize) {
+                    insert(pending, today);
+                    report.imported += pending.size();
+                    pending.clear();
+                }
+            }
+            insert(pending, today);
+            report.imported += pending.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (report.imported > 0) {
+            productCatalog.refreshAfterCommit();
+        }
+        log.info("Product import: {} rows, {} imported, {} failed in {}ms", report.total, report.imported,
+            report.failed, (System.nanoTime() - startNanos) / 1_000_000);
+        return report.toResult();
+    }
+
+    private void insert(List<ProductRequest> batch, Date today) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, req) -> {
+                ps.setString(1, req.name());
+                ps.setInt(2, req.price());
+                ps.setString(3, req.description());
+                ps.setDate(4, today);
+                ps.setDate(5, today);
+            });
+        } catch (DuplicateKeyException e) {
+            throw new BusinessException(DUPLICATE_PRODUCT_NAME);
+        }
+    }
+
+    private String validate(ProductRequest req) {
+        Set<ConstraintViolation<ProductRequest>> violations = validator.validate(req);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+            .sorted(Comparator.comparing(v -> v.getPropertyPath().toString()))
+            .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+            .collect(Collectors.joining(", "));
+    }
+
+    private static class Report {
+        private final List<RowError> errors = new ArrayList<>();
+        private long total;
+        private long imported;
+        private long failed;
+
+        void fail(long row, String name, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new RowError(row, name, message));
+            }
+        }
+
+        ProductImportResult toResult() {
+            return new ProductImportResult(total, imported, failed, errors, failed > errors.size());
+        }
+    }
+
+    private record ParsedRow(ProductRequest request, String error) {
+
+        static ParsedRow ok(ProductRequest request) {
+            return new ParsedRow(request, null);
+        }
+
+        static ParsedRow error(String error) {
+            return new ParsedRow(null, error);
+        }
+    }
+
+    private interface RowReader {
+        /** 다음 데이터 행, 끝이면 null */
+        ParsedRow next() throws IOException;
+    }
+
+    // 한 줄 = JSON 객체 1개, 빈 줄은 건너뜀
+    private class NdjsonRowReader implements RowReader {
+
+        private final BufferedReader reader;
+
+        NdjsonRowReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ParsedRow next() throws IOException {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    return ParsedRow.ok(objectMapper.readValue(line, ProductRequest.class));
+                } catch (JsonProcessingException e) {
+                    return ParsedRow.error("JSON 형식이 올바르지 않습니다.");
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * RFC 4180 CSV. 첫 행은 헤더(name, price, description — 순서 무관, description 생략 가능).
+     * 따옴표로 감싼 필드 안의 쉼표/줄바꿈/"" 이스케이프 지원
+     */
+    private static class CsvRowReader implements RowReader {
+
+        private final BufferedReader reader;
+        private final int nameIdx;
+        private final int priceIdx;
+        private final int descriptionIdx;
+
+        CsvRowReader(BufferedReader reader) throws IOException {
+            this.reader = reader;
+            List<String> header = readRecord();
+            if (header == null) {
+                throw new BusinessException(INVALID_REQUEST);
+            }
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                // 엑셀에서 저장한 UTF-8 CSV 의 BOM 제거
+                String column = i == 0 ? header.get(i).replace("\uFEFF", "") : header.get(i);
+                columns.put(column.trim().toLowerCase(Locale.ROOT), i);
+            }
+            if (!columns.containsKey("name") || !columns.containsKey("price")) {
+                throw new BusinessException(INVALID_REQUEST);
+            }
+            this.nameIdx = columns.get("name");
+            this.priceIdx = columns.get("price");
+            this.descriptionIdx = columns.getOrDefault("description", -1);
+        }
+
+        @Override
+        public ParsedRow next() throws IOException {
+            List<String> fields;
+            do {
+                fields = readRecord();
+                if (fields == null) {
+                    return null;
+                }
+            } while (fields.size() == 1 && fields.get(0).isBlank());
+
+            String name = field(fields, nameIdx);
+            String price = field(fields, priceIdx);
+            Integer parsedPrice = null;
+            if (price != null && !price.isBlank()) {
+                try {
+                    parsedPrice = Integer.valueOf(price.trim());
+                } catch (NumberFormatException e) {
+                    return ParsedRow.error("price: 숫자가 아닙니다.");
+                }
+            }
+            String description = field(fields, descriptionIdx);
+            return ParsedRow.ok(new ProductRequest(name, parsedPrice,
+                description == null || description.isEmpty() ? null : description));
+        }
+
+        private String field(List<String> fields, int idx) {
+            return idx >= 0 && idx < fields.size() ? fields.get(idx) : null;
+        }
+
+        // 레코드 1개 (따옴표 안 줄바꿈이면 다음 줄까지 이어 읽음), 끝이면 null
+        private List<String> readRecord() throws IOException {
+            String line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            List<String> fields = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            boolean quoted = false;
+            int i = 0;
+            while (true) {
+                if (i == line.length()) {
+                    if (!quoted) {
+                        break;
+                    }
+                    String nextLine = reader.readLine();
+                    if (nextLine == null) {
+                        break; // 닫히지 않은 따옴표 — 있는 데까지 사용
+                    }
+                    current.append('\n');
+                    line = nextLine;
+                    i = 0;
+                    continue;
+                }
+                char c = line.charAt(i++);
+                if (quoted) {
+                    if (c == '"') {
+                        if (i < line.length() && line.charAt(i) == '"') {
+                            current.append('"');
+                            i++;
+                        } else {
+                            quoted = false;
+                        }
+                    } else {
+                        current.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(current.toString());
+                    current.setLength(0);
+                } else {
+                    current.append(c);
+                }
+            }
+            fields.add(current.toString());
+            return fields;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package demo.cafemenu.domain.product.service;
+
+import demo.cafemenu.domain.product.dto.ProductCursor;
+import demo.cafemenu.domain.product.dto.ProductPage;
+import demo.cafemenu.domain.product.dto.ProductResponse;
+import demo.cafemenu.domain.product.dto.ProductSort;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 카탈로그 스냅샷별 불변 검색 인덱스 (스냅샷 교체 시 함께 새로 생성).
+ * - 정렬별 위치 배열(order) + 역배열(rank): keyset 커서 위치는 이진 탐색으로 찾음
+ * - name/description 소문자 문자열의 2-gram → 상품 위치 posting 목록
+ *   · 2자 이상 검색어: 검색어 2-gram posting 교집합(작은 목록부터) → contains 로 최종 확인 → 정렬 순위로 정렬
+ *     단, 가장 작은 posting 도 카탈로그의 1/DENSE_FRACTION 이상인 흔한 2-gram 이면 후보가 카탈로그 대부분이라
+ *     교집합 + 정렬 대신 1자 검색어처럼 정렬 순서대로 훑음 (일치가 흔하니 금방 size + 1 건이 모임)
+ *   · 1자 검색어: 정렬 순서대로 훑다가 size + 1 건 모이면 중단
+ * 생성 후에는 읽기 전용이라 여러 스레드가 락 없이 공유
+ */
+public final class ProductSearchIndex {
+
+    private static final int[] EMPTY = new int[0];
+    private static final int DENSE_FRACTION = 8;
+
+    private final ProductResponse[] products;
+    private final String[] haystacks;
+    private final Map<ProductSort, int[]> orders = new EnumMap<>(ProductSort.class);
+    private final Map<ProductSort, int[]> ranks = new EnumMap<>(ProductSort.class);
+    private final Map<Integer, int[]> postings;
+
+    ProductSearchIndex(List<ProductResponse> products) {
+        this.products = products.toArray(ProductResponse[]::new);
+        this.haystacks = new String[this.products.length];
+        for (int i = 0; i < this.products.length; i++) {
+            ProductResponse p = this.products[i];
+            // 줄바꿈으로 구분 → 이름 끝과 설명 앞이 이어진 2-gram 은 만들지 않음
+            haystacks[i] = normalize(p.name()) + '\n' + normalize(p.description());
+        }
+        for (ProductSort sort : ProductSort.values()) {
+            int[] order = sortedPositions(sort.comparator());
+            int[] rank = new int[order.length];
+            for (int r = 0; r < order.length; r++) {
+                rank[order[r]] = r;
+            }
+            orders.put(sort, order);
+            ranks.put(sort, rank);
+        }
+        this.postings = buildPostings();
+    }
+
+    public int size() {
+        return products.length;
+    }
+
+    public ProductPage search(String query, ProductSort sort, ProductCursor after, int size) {
+        int[] order = orders.get(sort);
+        int start = after == null ? 0 : firstAfter(order, sort.comparator(), sort.probe(after));
+        String needle = normalize(query);
+
+        int[] page;
+        if (needle.isEmpty()) {
+            page = Arrays.copyOfRange(order, start, Math.min(order.length, start + size + 1));
+        } else if (needle.length() < 2) {
+            page = scan(order, start, needle, size + 1);
+        } else {
+            page = lookup(sort, start, needle, size + 1);
+        }
+
+        boolean hasNext = page.length > size;
+        int count = hasNext ? size : page.length;
+        List<ProductResponse> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(products[page[i]]);
+        }
+        String nextCursor = null;
+        if (hasNext) {
+            ProductResponse last = result.get(count - 1);
+            nextCursor = new ProductCursor(sort.keyOf(last), last.id()).encode();
+        }
+        return new ProductPage(result, nextCursor);
+    }
+
+    // 정렬 순서대로 훑으며 limit 건까지 수집
+    private int[] scan(int[] order, int start, String needle, int limit) {
+        int[] found = new int[Math.min(limit, order.length)];
+        int n = 0;
+        for (int r = start; r < order.length && n < limit; r++) {
+            if (haystacks[order[r]].contains(needle)) {
+                found[n++] = order[r];
+            }
+        }
+        return Arrays.copyOf(found, n);
+    }
+
+    // 2-gram posting 교집합 → 확인 → 커서 이후 순위만 정렬해 limit 건 (흔한 2-gram 뿐이면 scan)
+    private int[] lookup(ProductSort sort, int start, String needle, int limit) {
+        int[][] lists = new int[needle.length() - 1][];
+        for (int i = 0; i + 1 < needle.length(); i++) {
+            int[] posting = postings.get(gram(needle.charAt(i), needle.charAt(i + 1)));
+            if (posting == null) {
+                return EMPTY;
+            }
+            lists[i] = posting;
+        }
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.length));
+        if ((long) lists[0].length * DENSE_FRACTION >= products.length) {
+            return scan(orders.get(sort), start, needle, limit);
+        }
+
+        int[] candidates = lists[0];
+        for (int i = 1; i < lists.length && candidates.length > 0; i++) {
+            candidates = intersect(candidates, lists[i]);
+        }
+
+        int[] rank = ranks.get(sort);
+        int[] matched = new int[candidates.length];
+        int n = 0;
+        for (int pos : candidates) {
+            if (rank[pos] >= start && haystacks[pos].contains(needle)) {
+                matched[n++] = rank[pos];
+            }
+        }
+        Arrays.sort(matched, 0, n);
+
+        int[] order = orders.get(sort);
+        int[] page = new int[Math.min(n, limit)];
+        for (int i = 0; i < page.length; i++) {
+            page[i] = order[matched[i]];
+        }
+        return page;
+    }
+
+    // 정렬 순서에서 커서보다 뒤에 오는 첫 순위
+    private int firstAfter(int[] order, Comparator<ProductResponse> comparator, ProductResponse probe) {
+        int lo = 0;
+        int hi = order.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (comparator.compare(products[order[mid]], probe) <= 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private int[] sortedPositions(Comparator<ProductResponse> comparator) {
+        Integer[] boxed = new Integer[products.length];
+        for (int i = 0; i < boxed.length; i++) {
+            boxed[i] = i;
+        }
+        Arrays.sort(boxed, (a, b) -> comparator.compare(products[a], products[b]));
+        int[] order = new int[boxed.length];
+        for (int i = 0; i < boxed.length; i++) {
+            order[i] = boxed[i];
+        }
+        return order;
+    }
+
+    // 상품 위치 오름차순으로 추가되므로 posting 목록은 자동으로 정렬됨
+    private Map<Integer, int[]> buildPostings() {
+        Map<Integer, int[]> building = new HashMap<>();
+        Map<Integer, Integer> sizes = new HashMap<>();
+        Set<Integer> seen = new HashSet<>();
+        for (int pos = 0; pos < haystacks.length; pos++) {
+            String text = haystacks[pos];
+            seen.clear();
+            for (int i = 0; i + 1 < text.length(); i++) {
+                char a = text.charAt(i);
+                char b = text.charAt(i + 1);
+                if (a == '\n' || b == '\n' || !seen.add(gram(a, b))) {
+                    continue;
+                }
+                int key = gram(a, b);
+                int n = sizes.getOrDefault(key, 0);
+                int[] list = building.get(key);
+                if (list == null) {
+                    list = new int[4];
+                } else if (n == list.length) {
+                    list = Arrays.copyOf(list, n * 2);
+                }
+                list[n] = pos;
+                building.put(key, list);
+                sizes.put(key, n + 1);
+            }
+        }
+        Map<Integer, int[]> result = new HashMap<>(building.size() * 2);
+        building.forEach((key, list) -> result.put(key, Arrays.copyOf(list, sizes.get(key))));
+        return result;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    private static int gram(char a, char b) {
+        return (a << 16) | b;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,16 +1,23 @@
 package demo.cafemenu.domain.product.service;
 
 import static demo.cafemenu.global.exception.ErrorCode.DUPLICATE_PRODUCT_NAME;
+import static demo.cafemenu.global.exception.ErrorCode.INVALID_REQUEST;
 import static demo.cafemenu.global.exception.ErrorCode.PRODUCT_NOT_FOUND;
 
+import demo.cafemenu.domain.product.dto.ProductCursor;
+import demo.cafemenu.domain.product.dto.ProductPage;
 import demo.cafemenu.domain.product.dto.ProductRequest;
 import demo.cafemenu.domain.product.dto.ProductResponse;
+import demo.cafemenu.domain.product.dto.ProductSort;
 import demo.cafemenu.domain.product.entity.Product;
 import demo.cafemenu.domain.product.repository.ProductRepository;
+import demo.cafemenu.domain.product.stock.StockLedger;
 import demo.cafemenu.global.exception.BusinessException;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -19,30 +26,69 @@ import org.springframework.transaction.annotation.Transactional;
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final ProductCatalog productCatalog;
+    private final StockLedger stockLedger;
 
-    // 전체 상품 목록
-    @Transactional(readOnly = true)
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_QUERY_LENGTH = 100;
+
+    // 전체 상품 목록 (카탈로그 스냅샷, 락/DB 조회 없음)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<ProductResponse> getAll() {
-        return productRepository.findAll()
-            .stream()
-            .map(this::toResponse)
-            .toList();
+        return productCatalog.products();
+    }
+
+    // 카탈로그 스냅샷 (버전 + 목록, 조회 ETag 용)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ProductCatalog.Snapshot getCatalog() {
+        return productCatalog.current();
+    }
+
+    // 카탈로그 버전만 (장바구니 ETag 용, 콜드 미스여도 DB 조회 없음)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public long getCatalogVersion() {
+        return productCatalog.version();
+    }
+
+    /* 상품 목록 검색 (카탈로그 인덱스, DB 조회 없음)
+    - q: 이름/설명 부분 일치(대소문자 무시), sort: id | name | price | -price
+    - cursor 이후 size 건 (size + 1 로 다음 페이지 여부 판단)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ProductPage search(String q, String sort, String cursor, int size) {
+        if (q != null && q.length() > MAX_QUERY_LENGTH) {
+            throw new BusinessException(INVALID_REQUEST);
+        }
+        ProductSort productSort = ProductSort.from(sort);
+        ProductCursor after = cursor == null || cursor.isBlank() ? null : ProductCursor.decode(cursor);
+        return productCatalog.current().index()
+            .search(q, productSort, after, Math.clamp(size, 1, MAX_PAGE_SIZE));
     }
 
     // 제품 등록(관리자)
-    public ProductResponse create(ProductRequest req) {
+    public ProductResponse create(ProductRequest request) {
+        ProductRequest req = request.normalized();
         if (productRepository.existsByName(req.name())) {
             throw new BusinessException(DUPLICATE_PRODUCT_NAME);
         }
-      return toResponse(productRepository.save(Product.builder()
-          .name(req.name())
-          .price(req.price())
-          .description(req.description())
-          .build()));
+        ProductResponse created;
+        try {
+            // IDENTITY 라 save 시점에 insert — 동시 등록은 uk_product_name 위반으로 감지
+            created = toResponse(productRepository.save(Product.builder()
+                .name(req.name())
+                .price(req.price())
+                .description(req.description())
+                .build()));
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessException(DUPLICATE_PRODUCT_NAME);
+        }
+        productCatalog.refreshAfterCommit();
+        return created;
     }
 
     // 제품 수정(관리자)
-    public ProductResponse update(Long id, ProductRequest req) {
+    public ProductResponse update(Long id, ProductRequest request) {
+        ProductRequest req = request.normalized();
         Product product = productRepository.findById(id)
             .orElseThrow(() -> new BusinessException(PRODUCT_NOT_FOUND));
 
@@ -51,6 +97,12 @@ public class ProductService {
         }
 
         product.change(req.name(), req.price(), req.description());
+        try {
+            productRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessException(DUPLICATE_PRODUCT_NAME);
+        }
+        productCatalog.refreshAfterCommit();
         return toResponse(product);
 
     }
@@ -60,9 +112,11 @@ public class ProductService {
         Product product = productRepository.findById(id)
             .orElseThrow(() -> new BusinessException(PRODUCT_NOT_FOUND));
         productRepository.delete(product);
+        stockLedger.unlimit(id);
+        productCatalog.refreshAfterCommit();
     }
 
     private ProductResponse toResponse(Product p) {
-        return new ProductResponse(p.getId(), p.getName(), p.getPrice(), p.getDescription());
+        return ProductResponse.from(p);
     }
 }
@@ -0,0 +1,322 @@
+package demo.cafemenu.domain.product.stock;
+
+import static demo.cafemenu.global.exception.ErrorCode.OUT_OF_STOCK;
+import static demo.cafemenu.global.exception.ErrorCode.PRODUCT_NOT_FOUND;
+
+import demo.cafemenu.domain.product.dto.StockResponse;
+import demo.cafemenu.domain.product.entity.ProductStock;
+import demo.cafemenu.domain.product.repository.ProductRepository;
+import demo.cafemenu.domain.product.repository.ProductStockRepository;
+import demo.cafemenu.global.exception.BusinessException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 한정 수량 상품 재고 원장 (product_stock 행이 있는 상품만 대상, 나머지는 무제한).
+ * - 상품별 남은 수량을 AtomicInteger 로 메모리에 보관, 예약은 CAS 로 차감 → DB 행 잠금/대기 없음, 예약으로는 0 미만으로 내려가지 않음
+ * - 사용자별 예약분(hold)을 함께 기록: 해제는 예약한 만큼만, 결제 시 hold 만 지우고 수량은 그대로(소진)
+ * - 예약은 트랜잭션이 롤백되면 되돌리고, 해제/소진은 커밋 후에만 반영
+ * - 변경된 카운터는 주기적으로 모아 product_stock.available 에 write-behind
+ * - 기동 시 주문/장바구니 기준으로 남은 수량과 hold 를 다시 계산 (write-behind 유실분 보정)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockLedger {
+
+    private static final String CONSUMED_SQL = """
+        select s.product_id, s.quantity, s.paid_baseline, s.available,
+               coalesce(sum(case when o.status = 'PAID' then i.quantity end), 0) as paid,
+               coalesce(sum(case when o.status = 'PENDING' then i.quantity end), 0) as pending
+        from product_stock s
+        left join order_items i on i.product_id = s.product_id
+        left join orders o on o.id = i.order_id
+        group by s.product_id, s.quantity, s.paid_baseline, s.available
+        """;
+
+    private static final String PENDING_HOLDS_SQL = """
+        select o.user_id, i.product_id, sum(i.quantity)
+        from orders o
+        join order_items i on i.order_id = o.id
+        join product_stock s on s.product_id = i.product_id
+        where o.status = 'PENDING'
+        group by o.user_id, i.product_id
+        """;
+
+    private final ProductStockRepository productStockRepository;
+    private final ProductRepository productRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ConcurrentHashMap<Long, AtomicInteger> counters = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    /** userId → (productId → 예약분) */
+    private final ConcurrentHashMap<Long, ConcurrentHashMap<Long, Hold>> holds = new ConcurrentHashMap<>();
+
+    @Value("${app.stock.hold-ttl:PT15M}")
+    private Duration holdTtl;
+
+    /* 기동 시 재계산
+    - 남은 수량 = quantity - (결제 수량 - paid_baseline) - 장바구니 수량
+    - 장바구니에 담긴 한정 상품은 모두 hold 로 다시 등록 (만료 시각은 지금부터)
+     */
+    @PostConstruct
+    public void reconcile() {
+        jdbcTemplate.query(CONSUMED_SQL, rs -> {
+            long productId = rs.getLong(1);
+            long paidSince = Math.max(0, rs.getLong(5) - rs.getLong(3));
+            int available = (int) Math.max(0, rs.getInt(2) - paidSince - rs.getLong(6));
+            int persisted = rs.getInt(4);
+            if (available != persisted) {
+                log.warn("Stock drift for product {}: persisted {}, reconciled {}", productId, persisted, available);
+                dirty.add(productId);
+            }
+            counters.put(productId, new AtomicInteger(available));
+        });
+        jdbcTemplate.query(PENDING_HOLDS_SQL, rs -> {
+            addHold(rs.getLong(1), rs.getLong(2), rs.getInt(3));
+        });
+        log.info("Stock ledger reconciled: {} limited products, {} users holding stock", counters.size(), holds.size());
+    }
+
+    public boolean isLimited(Long productId) {
+        return counters.containsKey(productId);
+    }
+
+    /**
+     * 재고 예약 (무제한 상품은 아무 것도 하지 않음). 부족하면 OUT_OF_STOCK.
+     * 현재 트랜잭션이 롤백되면 자동으로 되돌림
+     */
+    public void reserve(Long userId, Long productId, int quantity) {
+        AtomicInteger counter = counters.get(productId);
+        if (counter == null || quantity <= 0) {
+            return;
+        }
+        int current;
+        do {
+            current = counter.get();
+            if (current < quantity) {
+                throw new BusinessException(OUT_OF_STOCK);
+            }
+        } while (!counter.compareAndSet(current, current - quantity));
+        dirty.add(productId);
+        addHold(userId, productId, quantity);
+
+        afterCompletion(false, () -> release(userId, productId, quantity));
+    }
+
+    /**
+     * 수량 변경분 일괄 반영 (양수: 예약, 음수: 커밋 후 해제).
+     * 중간에 재고 부족이면 예외 → 트랜잭션 롤백으로 앞서 예약한 것도 되돌아감
+     */
+    public void apply(Long userId, Map<Long, Integer> deltas) {
+        deltas.forEach((productId, delta) -> {
+            if (delta > 0) {
+                reserve(userId, productId, delta);
+            } else if (delta < 0) {
+                releaseAfterCommit(userId, productId, -delta);
+            }
+        });
+    }
+
+    // 장바구니에서 빠진 수량 반환 (커밋 후, 예약했던 만큼까지만)
+    public void releaseAfterCommit(Long userId, Long productId, int quantity) {
+        if (counters.containsKey(productId) && quantity > 0) {
+            afterCompletion(true, () -> release(userId, productId, quantity));
+        }
+    }
+
+    // 결제 완료 — 예약분이 판매로 확정되므로 hold 만 제거 (커밋 후)
+    public void consumeAfterCommit(Long userId) {
+        afterCompletion(true, () -> holds.remove(userId));
+    }
+
+    /**
+     * 마지막 예약 후 hold-ttl 이 지난 예약 목록 (장바구니 만료 대상).
+     * 실제 해제는 장바구니에서 품목을 뺀 뒤 releaseAfterCommit 으로
+     */
+    public List<ExpiredHold> expiredHolds() {
+        long threshold = System.currentTimeMillis() - holdTtl.toMillis();
+        List<ExpiredHold> expired = new ArrayList<>();
+        holds.forEach((userId, byProduct) -> byProduct.forEach((productId, hold) -> {
+            if (hold.touchedAt() < threshold) {
+                expired.add(new ExpiredHold(userId, productId));
+            }
+        }));
+        return expired;
+    }
+
+    // 만료 처리 후에도 남은 hold (장바구니에 이미 없던 경우 등) 정리
+    public void dropHoldAfterCommit(Long userId, Long productId) {
+        afterCompletion(true, () -> holds.computeIfPresent(userId, (id, byProduct) -> {
+            byProduct.remove(productId);
+            return byProduct.isEmpty() ? null : byProduct;
+        }));
+    }
+
+    /* 관리자 재고 지정
+    - 이미 한정 상품: baseline/hold 는 그대로 두고 지정 수량 변화량만 커밋 후 살아있는 카운터에 더함
+      (스냅샷 값으로 교체하면 그 사이 예약분이 사라지므로). 줄인 만큼 음수가 될 수 있고 해제분이 먼저 메움
+    - 새로 한정 지정: 지정 시점까지의 결제 수량을 baseline 으로, 현재 장바구니 수량은 이미 예약된 것으로 보고 차감,
+      커밋 후 카운터 생성 + 장바구니 보유분을 hold 로 등록 (write-behind 장바구니는 호출 전에 DB 반영 필요)
+     */
+    @Transactional
+    public StockResponse restock(Long productId, int quantity) {
+        if (!productRepository.existsById(productId)) {
+            throw new BusinessException(PRODUCT_NOT_FOUND);
+        }
+        ProductStock limited = productStockRepository.findForUpdate(productId).orElse(null);
+        AtomicInteger counter = counters.get(productId);
+        if (limited != null && counter != null) {
+            int delta = quantity - limited.getQuantity();
+            limited.restock(quantity, limited.getPaidBaseline(), Math.max(0, counter.get() + delta));
+            afterCompletion(true, () -> {
+                counter.addAndGet(delta);
+                dirty.add(productId);
+            });
+            return new StockResponse(productId, quantity, limited.getAvailable());
+        }
+
+        long paid = jdbcTemplate.queryForObject("""
+            select coalesce(sum(i.quantity), 0) from order_items i join orders o on o.id = i.order_id
+            where i.product_id = ? and o.status = 'PAID'
+            """, Long.class, productId);
+        List<long[]> pendingHolds = jdbcTemplate.query("""
+            select o.user_id, sum(i.quantity) from order_items i join orders o on o.id = i.order_id
+            where i.product_id = ? and o.status = 'PENDING'
+            group by o.user_id
+            """, (rs, n) -> new long[]{rs.getLong(1), rs.getLong(2)}, productId);
+        long pending = pendingHolds.stream().mapToLong(row -> row[1]).sum();
+        int available = (int) Math.max(0, quantity - pending);
+
+        ProductStock stock = limited != null ? limited : ProductStock.builder().productId(productId).build();
+        stock.restock(quantity, paid, available);
+        productStockRepository.save(stock);
+
+        afterCompletion(true, () -> {
+            // 동시 지정으로 이미 카운터가 생겼으면 그쪽 예약분을 유지
+            if (counters.putIfAbsent(productId, new AtomicInteger(available)) == null) {
+                pendingHolds.forEach(row -> addHold(row[0], productId, (int) row[1]));
+            }
+        });
+        return new StockResponse(productId, quantity, available);
+    }
+
+    // 관리자 한정 수량 해제 → 무제한 상품으로
+    @Transactional
+    public void unlimit(Long productId) {
+        if (!productStockRepository.existsById(productId)) {
+            return;
+        }
+        productStockRepository.deleteById(productId);
+        afterCompletion(true, () -> {
+            counters.remove(productId);
+            dirty.remove(productId);
+            holds.values().forEach(byProduct -> byProduct.remove(productId));
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public StockResponse get(Long productId) {
+        ProductStock stock = productStockRepository.findById(productId)
+            .orElseThrow(() -> new BusinessException(PRODUCT_NOT_FOUND));
+        AtomicInteger counter = counters.get(productId);
+        return new StockResponse(productId, stock.getQuantity(),
+            counter != null ? Math.max(0, counter.get()) : stock.getAvailable());
+    }
+
+    // 주기적 write-behind — 변경된 상품의 현재 카운터 값만 batch update
+    @Scheduled(fixedDelayString = "${app.stock.flush-interval-ms:500}")
+    public void flush() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>();
+        Iterator<Long> it = dirty.iterator();
+        while (it.hasNext()) {
+            Long productId = it.next();
+            it.remove();
+            AtomicInteger counter = counters.get(productId);
+            if (counter != null) {
+                rows.add(new Object[]{Math.max(0, counter.get()), productId});
+            }
+        }
+        try {
+            jdbcTemplate.batchUpdate("update product_stock set available = ? where product_id = ?", rows);
+        } catch (RuntimeException e) {
+            log.error("Stock write-behind failed for {} products", rows.size(), e);
+            rows.forEach(row -> dirty.add((Long) row[1]));
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void release(Long userId, Long productId, int quantity) {
+        int[] released = {0};
+        holds.computeIfPresent(userId, (id, byProduct) -> {
+            byProduct.computeIfPresent(productId, (pid, hold) -> {
+                released[0] = Math.min(quantity, hold.quantity());
+                int left = hold.quantity() - released[0];
+                return left > 0 ? new Hold(left, hold.touchedAt()) : null;
+            });
+            return byProduct.isEmpty() ? null : byProduct;
+        });
+        AtomicInteger counter = counters.get(productId);
+        if (counter != null && released[0] > 0) {
+            counter.addAndGet(released[0]);
+            dirty.add(productId);
+        }
+    }
+
+    private void addHold(Long userId, Long productId, int quantity) {
+        long now = System.currentTimeMillis();
+        // 빈 맵 제거(release)와 겹치지 않도록 사용자 단위로 원자적으로 갱신
+        holds.compute(userId, (id, byProduct) -> {
+            ConcurrentHashMap<Long, Hold> target = byProduct != null ? byProduct : new ConcurrentHashMap<>();
+            target.merge(productId, new Hold(quantity, now),
+                (prev, added) -> new Hold(prev.quantity() + added.quantity(), now));
+            return target;
+        });
+    }
+
+    // committed=true: 커밋 후 실행, false: 롤백 시 실행. 트랜잭션 밖이면 커밋 후 작업만 즉시 실행
+    private void afterCompletion(boolean committed, Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (committed) {
+                action.run();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if ((status == STATUS_COMMITTED) == committed) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    private record Hold(int quantity, long touchedAt) {}
+
+    public record ExpiredHold(Long userId, Long productId) {}
+}
@@ -4,13 +4,17 @@ import demo.cafemenu.domain.user.dto.LoginRequest;
 import demo.cafemenu.domain.user.dto.LoginResponse;
 import demo.cafemenu.domain.user.dto.SignupRequest;
 import demo.cafemenu.domain.user.dto.SignupResponse;
+import demo.cafemenu.domain.user.dto.TokenRefreshRequest;
 import demo.cafemenu.domain.user.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
@@ -25,15 +29,34 @@ public class UserController {
   // 사용자 회원가입 API
   @PostMapping("/signup")
   @ResponseStatus(HttpStatus.CREATED)
-  public SignupResponse signup(@Validated @RequestBody SignupRequest request) {
-    return userService.signup(request);
+  public SignupResponse signup(@Validated @RequestBody SignupRequest request,
+      HttpServletRequest servletRequest) {
+    return userService.signup(request, servletRequest.getRemoteAddr());
   }
 
   // 로그인 API (User/Admin 공용)
   @PostMapping("/login")
   @ResponseStatus(HttpStatus.OK)
-  public LoginResponse login(@Valid @RequestBody LoginRequest request) {
-    return userService.login(request);
+  public LoginResponse login(@Valid @RequestBody LoginRequest request,
+      HttpServletRequest servletRequest) {
+    return userService.login(request, servletRequest.getRemoteAddr());
+  }
+
+  // 액세스 토큰 재발급 API (리프레시 토큰 회전)
+  @PostMapping("/token/refresh")
+  @ResponseStatus(HttpStatus.OK)
+  public LoginResponse refresh(@Valid @RequestBody TokenRefreshRequest request) {
+    return userService.refresh(request);
+  }
+
+  // 로그아웃 API (User/Admin 공용) — 리프레시 토큰 family + 현재 액세스 토큰 폐기
+  @PostMapping("/logout")
+  @ResponseStatus(HttpStatus.NO_CONTENT)
+  public void logout(@RequestBody(required = false) TokenRefreshRequest request,
+      @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+    String accessToken = authorization != null && authorization.startsWith("Bearer ")
+        ? authorization.substring(7) : null;
+    userService.logout(request != null ? request.refreshToken() : null, accessToken);
   }
 
 }
\ No newline at end of file
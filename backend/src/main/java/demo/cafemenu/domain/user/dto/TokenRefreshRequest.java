@@ -0,0 +1,10 @@
+package demo.cafemenu.domain.user.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record TokenRefreshRequest(
+
+    @NotBlank(message = "리프레시 토큰은 필수 입력 항목입니다.")
+    String refreshToken
+
+){}
@@ -0,0 +1,55 @@
+package demo.cafemenu.domain.user.entity;
+
+import demo.cafemenu.global.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 서버 저장 리프레시 토큰 (원문은 저장하지 않고 SHA-256 digest 만 보관).
+ * - 한 번 쓰면(rotate) used_at 이 찍히고 같은 family 의 새 토큰이 발급됨
+ * - 이미 쓴 토큰이 다시 오면 탈취로 보고 family 전체를 폐기
+ */
+@Entity
+@Table(name = "refresh_tokens",
+    indexes = {
+        @Index(name = "idx_refresh_family", columnList = "family_id"),
+        @Index(name = "idx_refresh_expires", columnList = "expires_at")
+    })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class RefreshToken extends BaseTimeEntity {
+
+  /** SHA-256(토큰) base64url */
+  @Id
+  @Column(name = "token_hash", length = 64)
+  private String tokenHash;
+
+  @Column(name = "user_id", nullable = false)
+  private Long userId;
+
+  /** 최초 로그인에서 시작된 rotation 체인 */
+  @Column(name = "family_id", length = 36, nullable = false)
+  private String familyId;
+
+  @Column(name = "expires_at", nullable = false)
+  private Instant expiresAt;
+
+  @Column(name = "used_at")
+  private Instant usedAt;
+
+  @Column(nullable = false)
+  @Builder.Default
+  private boolean revoked = false;
+
+}
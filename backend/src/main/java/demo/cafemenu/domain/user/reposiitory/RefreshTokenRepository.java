@@ -0,0 +1,30 @@
+package demo.cafemenu.domain.user.reposiitory;
+
+import demo.cafemenu.domain.user.entity.RefreshToken;
+import java.time.Instant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+  /** 아직 쓰지 않은 유효 토큰만 사용 처리 (동시에 같은 토큰으로 들어오면 한 요청만 1 반환) */
+  @Modifying
+  @Query("""
+      update RefreshToken t set t.usedAt = :now
+      where t.tokenHash = :hash and t.usedAt is null and t.revoked = false and t.expiresAt > :now
+      """)
+  int markUsed(@Param("hash") String hash, @Param("now") Instant now);
+
+  @Modifying
+  @Query("update RefreshToken t set t.revoked = true where t.familyId = :familyId and t.revoked = false")
+  int revokeFamily(@Param("familyId") String familyId);
+
+  @Modifying
+  @Query("delete from RefreshToken t where t.expiresAt < :now")
+  int deleteExpired(@Param("now") Instant now);
+
+}
@@ -0,0 +1,93 @@
+package demo.cafemenu.domain.user.service;
+
+import static demo.cafemenu.global.exception.ErrorCode.INVALID_REFRESH_TOKEN;
+
+import demo.cafemenu.domain.user.entity.RefreshToken;
+import demo.cafemenu.domain.user.reposiitory.RefreshTokenRepository;
+import demo.cafemenu.global.exception.BusinessException;
+import demo.cafemenu.global.jwt.VerifiedTokenCache;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 리프레시 토큰 발급/회전/폐기.
+ * - 토큰은 추측 불가능한 랜덤 문자열, DB 에는 SHA-256 digest 만 저장
+ * - rotate: 한 번 쓴 토큰은 사용 처리 후 같은 family 의 새 토큰 발급 (BCrypt 로그인 없이 액세스 토큰 재발급)
+ * - 이미 쓴(또는 폐기된) 토큰이 다시 오면 탈취로 보고 family 전체 폐기 → 다시 로그인해야 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class RefreshTokenService {
+
+  private static final SecureRandom RANDOM = new SecureRandom();
+
+  private final RefreshTokenRepository refreshTokenRepository;
+
+  @Value("${app.jwt.refresh-validity:P14D}")
+  private Duration refreshValidity;
+
+  public record Rotation(Long userId, String refreshToken) {}
+
+  /** 로그인 성공 시 새 family 로 발급 */
+  public String issue(Long userId) {
+    return issue(userId, UUID.randomUUID().toString());
+  }
+
+  /** 리프레시 토큰 교환: 기존 토큰 사용 처리 + 같은 family 의 새 토큰 발급 */
+  @Transactional(noRollbackFor = BusinessException.class) // 재사용 감지 시 family 폐기는 커밋
+  public Rotation rotate(String refreshToken) {
+    String hash = VerifiedTokenCache.digest(refreshToken);
+    RefreshToken current = refreshTokenRepository.findById(hash)
+        .orElseThrow(() -> new BusinessException(INVALID_REFRESH_TOKEN));
+
+    // 조건부 update — 같은 토큰으로 동시에 들어와도 한 요청만 성공
+    if (refreshTokenRepository.markUsed(hash, Instant.now()) == 0) {
+      if (current.getUsedAt() != null || current.isRevoked()) {
+        int revoked = refreshTokenRepository.revokeFamily(current.getFamilyId());
+        log.warn("Refresh token reuse detected (user {}), revoked {} tokens of family {}",
+            current.getUserId(), revoked, current.getFamilyId());
+      }
+      throw new BusinessException(INVALID_REFRESH_TOKEN);
+    }
+    return new Rotation(current.getUserId(), issue(current.getUserId(), current.getFamilyId()));
+  }
+
+  /** 로그아웃: 토큰이 속한 family 전체 폐기 (없는 토큰은 무시) */
+  public void revoke(String refreshToken) {
+    refreshTokenRepository.findById(VerifiedTokenCache.digest(refreshToken))
+        .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId()));
+  }
+
+  @Scheduled(fixedDelayString = "${app.jwt.refresh-cleanup-interval-ms:3600000}")
+  public void evictExpired() {
+    int deleted = refreshTokenRepository.deleteExpired(Instant.now());
+    if (deleted > 0) {
+      log.debug("Deleted {} expired refresh tokens", deleted);
+    }
+  }
+
+  private String issue(Long userId, String familyId) {
+    byte[] bytes = new byte[32];
+    RANDOM.nextBytes(bytes);
+    String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+    refreshTokenRepository.save(RefreshToken.builder()
+        .tokenHash(VerifiedTokenCache.digest(token))
+        .userId(userId)
+        .familyId(familyId)
+        .expiresAt(Instant.now().plus(refreshValidity))
+        .build());
+    return token;
+  }
+}
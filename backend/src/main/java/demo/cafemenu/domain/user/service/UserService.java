@@ -2,6 +2,7 @@ package demo.cafemenu.domain.user.service;
 
 import static demo.cafemenu.domain.user.entity.Role.ROLE_USER;
 import static demo.cafemenu.global.exception.ErrorCode.INVALID_CREDENTIALS;
+import static demo.cafemenu.global.exception.ErrorCode.INVALID_REFRESH_TOKEN;
 import static demo.cafemenu.global.exception.ErrorCode.USER_ALREADY_EXISTS;
 import static demo.cafemenu.global.exception.ErrorCode.USER_NOT_FOUND;
 
@@ -9,10 +10,12 @@ import demo.cafemenu.domain.user.dto.LoginRequest;
 import demo.cafemenu.domain.user.dto.LoginResponse;
 import demo.cafemenu.domain.user.dto.SignupRequest;
 import demo.cafemenu.domain.user.dto.SignupResponse;
+import demo.cafemenu.domain.user.dto.TokenRefreshRequest;
 import demo.cafemenu.domain.user.entity.User;
 import demo.cafemenu.domain.user.reposiitory.UserRepository;
 import demo.cafemenu.global.exception.BusinessException;
 import demo.cafemenu.global.jwt.JwtTokenProvider;
+import demo.cafemenu.global.security.LoginThrottle;
 import demo.cafemenu.global.security.UserDetailsImpl;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -22,6 +25,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -33,8 +37,13 @@ public class UserService {
   private final PasswordEncoder passwordEncoder;
   private final AuthenticationManager authenticationManager;
   private final JwtTokenProvider jwtTokenProvider;
+  private final RefreshTokenService refreshTokenService;
+  private final LoginThrottle loginThrottle;
 
-  public SignupResponse signup(SignupRequest request) {
+  // BCrypt 해싱을 기다리는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행 (조회/저장은 각자 짧은 트랜잭션)
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public SignupResponse signup(SignupRequest request, String clientIp) {
+    loginThrottle.acquireSignup(clientIp);
 
     // 중복 가입 확인(이메일)
     if (userRepository.existsByEmail(request.email())) {
@@ -52,7 +61,11 @@ public class UserService {
     return new SignupResponse(user.getId(), user.getEmail(), user.getName());
   }
 
-  public LoginResponse login(LoginRequest request) {
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public LoginResponse login(LoginRequest request, String clientIp) {
+    // 0) 시도 횟수 제한 (BCrypt 전에 확인)
+    loginThrottle.acquireLogin(request.email(), clientIp);
+
     try {
       // 1) 이메일/비번 인증
       Authentication authentication = authenticationManager.authenticate(
@@ -66,15 +79,42 @@ public class UserService {
       User user = userRepository.findByEmail(principal.getEmail())
           .orElseThrow(() -> new BusinessException(USER_NOT_FOUND));
 
-      // 4) 토큰 발급
+      // 4) 토큰 발급 (액세스 + 리프레시)
       String token = jwtTokenProvider.createAccessToken(user);
+      String refreshToken = refreshTokenService.issue(user.getId());
 
       // 5) 응답
-      return LoginResponse.of(token, principal.getRole().name(),
+      return LoginResponse.of(token, refreshToken, principal.getRole().name(),
           principal.getId(), principal.getEmail(), user.getName());
 
     } catch (BadCredentialsException | UsernameNotFoundException e) {
       throw new BusinessException(INVALID_CREDENTIALS);
     }
   }
+
+  /**
+   * 리프레시 토큰으로 액세스 토큰 재발급 (BCrypt 비밀번호 검증 없음).
+   * 리프레시 토큰도 함께 교체되며, 이미 쓴 토큰 재사용 시 family 폐기가 롤백되지 않도록 커밋
+   */
+  @Transactional(noRollbackFor = BusinessException.class)
+  public LoginResponse refresh(TokenRefreshRequest request) {
+    RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.refreshToken());
+
+    User user = userRepository.findById(rotation.userId())
+        .orElseThrow(() -> new BusinessException(INVALID_REFRESH_TOKEN));
+    String token = jwtTokenProvider.createAccessToken(user);
+
+    return LoginResponse.of(token, rotation.refreshToken(), user.getRole().name(),
+        user.getId(), user.getEmail(), user.getName());
+  }
+
+  /** 로그아웃: 리프레시 토큰 family 폐기 + 현재 액세스 토큰을 만료 시까지 거부 */
+  public void logout(String refreshToken, String accessToken) {
+    if (refreshToken != null && !refreshToken.isBlank()) {
+      refreshTokenService.revoke(refreshToken);
+    }
+    if (accessToken != null) {
+      jwtTokenProvider.revoke(accessToken);
+    }
+  }
 }
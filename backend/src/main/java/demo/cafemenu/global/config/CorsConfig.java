@@ -20,6 +20,7 @@ public class CorsConfig {
     conf.setAllowedOrigins(Arrays.stream(allowedOrigins.split(",")).map(String::trim).toList());
     conf.setAllowedMethods(Arrays.asList("GET","POST","PUT","PATCH","DELETE","OPTIONS"));
     conf.setAllowedHeaders(Arrays.asList("*"));
+    conf.setExposedHeaders(Arrays.asList("X-Next-Cursor", "Idempotent-Replayed", "ETag", "X-Query-Count", "X-Request-Id"));
     conf.setAllowCredentials(true);
     var source = new UrlBasedCorsConfigurationSource();
     source.registerCorsConfiguration("/**", conf);
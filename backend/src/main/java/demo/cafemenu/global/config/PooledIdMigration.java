@@ -0,0 +1,60 @@
+package demo.cafemenu.global.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * pooled-ids 프로필 기동 시 기존 IDENTITY 테이블을 시퀀스 방식으로 맞춤 (H2, MODE=MySQL).
+ * 1) 시퀀스 다음 값이 현재 max(id) 이하이면 max(id) + 1 부터 다시 시작 → 기존 데이터와 id 충돌 방지
+ * 2) id 컬럼의 IDENTITY 제거 후 기본값을 시퀀스로 지정
+ *    → id 없이 insert 하는 네이티브 upsert / JDBC batch insert 도 계속 동작.
+ *      시퀀스가 allocationSize(50) 씩 증가하므로 기본값으로 받은 id 와 Hibernate 가 확보한 구간은 겹치지 않음
+ * 모든 단계가 멱등이라 매 기동마다 실행해도 됨. EntityManagerFactory 생성(스키마 갱신) 이후, 요청/배치 시작 전에 실행
+ */
+@Slf4j
+@Component
+@Profile("pooled-ids")
+@RequiredArgsConstructor
+public class PooledIdMigration {
+
+  /** 테이블 → 시퀀스 (META-INF/orm-pooled-ids.xml 과 동일하게 유지) */
+  private static final Map<String, String> SEQUENCES = Map.of(
+      "orders", "orders_seq",
+      "order_items", "order_items_seq",
+      "products", "products_seq",
+      "users", "users_seq"
+  );
+
+  private final EntityManagerFactory entityManagerFactory; // 스키마 생성 이후 실행되도록 의존
+  private final JdbcTemplate jdbcTemplate;
+
+  @PostConstruct
+  public void migrate() {
+    SEQUENCES.forEach(this::align);
+  }
+
+  private void align(String table, String sequence) {
+    long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+    long next = jdbcTemplate.queryForObject("select next value for " + sequence, Long.class);
+    if (next <= maxId) {
+      jdbcTemplate.execute("alter sequence " + sequence + " restart with " + (maxId + 1));
+      log.info("Restarted {} at {} (max id of {} was {})", sequence, maxId + 1, table, maxId);
+    }
+
+    Boolean identity = jdbcTemplate.queryForObject("""
+        select is_identity = 'YES' from information_schema.columns
+        where lower(table_name) = ? and lower(column_name) = 'id'
+        """, Boolean.class, table);
+    if (Boolean.TRUE.equals(identity)) {
+      jdbcTemplate.execute("alter table " + table + " alter column id drop identity");
+      log.info("Dropped IDENTITY from {}.id", table);
+    }
+    jdbcTemplate.execute("alter table " + table + " alter column id set default next value for " + sequence);
+  }
+}
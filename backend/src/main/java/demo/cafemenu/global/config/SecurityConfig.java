@@ -1,8 +1,13 @@
 package demo.cafemenu.global.config;
 
+import demo.cafemenu.global.idempotency.IdempotencyFilter;
 import demo.cafemenu.global.jwt.JwtAuthenticationFilter;
+import demo.cafemenu.global.security.BoundedPasswordEncoder;
 import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -24,6 +29,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
   private final JwtAuthenticationFilter jwtAuthenticationFilter;
+  private final IdempotencyFilter idempotencyFilter;
 
   @Bean
   public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -37,7 +43,11 @@ public class SecurityConfig {
             // 공개 엔드포인트 (회원가입/로그인은 다음 브랜치에서 구현 예정)
             .requestMatchers("/h2-console/**").permitAll()
             .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
+            // Actuator 는 127.0.0.1 관리 포트에만 열려 있으므로 로컬 수집기가 인증 없이 scrape
+            .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+            .requestMatchers("/actuator/**").hasAuthority("ROLE_ADMIN")
             .requestMatchers(HttpMethod.POST, "/api/user/signup", "/api/user/login").permitAll()
+            .requestMatchers(HttpMethod.POST, "/api/user/token/refresh", "/api/user/logout").permitAll()
 
             // 역할 기반
             .requestMatchers("/api/admin/**").hasAuthority("ROLE_ADMIN")
@@ -60,17 +70,31 @@ public class SecurityConfig {
 
     // JWT 필터 체인에 연결 (UsernamePasswordAuthenticationFilter 앞)
     http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+    // 멱등 키 처리 (인증된 사용자 기준이므로 JWT 필터 뒤)
+    http.addFilterAfter(idempotencyFilter, JwtAuthenticationFilter.class);
 
     return http.build();
   }
 
+  // 멱등 필터는 시큐리티 체인 안에서만 동작 (서블릿 필터로 중복 등록 방지)
+  @Bean
+  public FilterRegistrationBean<IdempotencyFilter> idempotencyFilterRegistration(IdempotencyFilter filter) {
+    FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(filter);
+    registration.setEnabled(false);
+    return registration;
+  }
+
   @Bean
   public AuthenticationManager authenticationManager(AuthenticationConfiguration conf) throws Exception {
     return conf.getAuthenticationManager();
   }
 
+  // BCrypt 는 전용 풀(스레드/대기열 제한)에서만 실행, 가득 차면 429
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  public PasswordEncoder passwordEncoder(
+      @Value("${app.password-hashing.threads:2}") int threads,
+      @Value("${app.password-hashing.queue-capacity:32}") int queueCapacity,
+      @Value("${app.password-hashing.wait-timeout:PT5S}") Duration waitTimeout) {
+    return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), threads, queueCapacity, waitTimeout);
   }
 }
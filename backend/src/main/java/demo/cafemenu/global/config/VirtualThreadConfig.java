@@ -0,0 +1,16 @@
+package demo.cafemenu.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * virtual-threads 프로필: 요청 처리(Tomcat), @Async, @Scheduled 를 가상 스레드에서 실행.
+ * spring.threads.virtual.enabled=true 면 Boot 가 Tomcat 실행기와 applicationTaskExecutor 를 가상 스레드로 바꾸므로
+ * 여기서는 @Async 만 켬. 동시 처리량 상한은 스레드 수가 아니라 Hikari 풀 크기 (application-virtual-threads.yml)
+ */
+@Configuration
+@EnableAsync
+@Profile("virtual-threads")
+public class VirtualThreadConfig {
+}
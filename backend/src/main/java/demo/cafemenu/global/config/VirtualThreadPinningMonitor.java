@@ -0,0 +1,108 @@
+package demo.cafemenu.global.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가상 스레드 pinning 감지 (JFR jdk.VirtualThreadPinned 이벤트 구독).
+ * synchronized 블록/네이티브 호출 안에서 가상 스레드가 블로킹되면 캐리어 스레드가 묶여 처리량이 떨어짐.
+ * 우리 코드/의존성(H2, Hibernate 등) 구분 없이 threshold 이상 고정된 경우를 잡아
+ * 위치(우리 패키지의 첫 프레임, 없으면 첫 비-JDK 프레임)별로 횟수를 세고, 위치마다 처음 한 번만 스택을 WARN 로그로 남김
+ */
+@Slf4j
+@Component
+@Profile("virtual-threads")
+public class VirtualThreadPinningMonitor {
+
+  private static final String APP_PACKAGE = "demo.cafemenu.";
+  private static final int MAX_LOGGED_FRAMES = 20;
+
+  private final Map<String, LongAdder> pinnedSites = new ConcurrentHashMap<>();
+
+  @Value("${app.virtual-threads.pinning.threshold:PT0.02S}")
+  private Duration threshold;
+
+  private RecordingStream stream;
+
+  @PostConstruct
+  public void start() {
+    stream = new RecordingStream();
+    stream.enable("jdk.VirtualThreadPinned").withThreshold(threshold).withStackTrace();
+    stream.onEvent("jdk.VirtualThreadPinned", this::onPinned);
+    stream.startAsync();
+    log.info("Virtual thread pinning monitor started (threshold {})", threshold);
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (stream != null) {
+      stream.close();
+    }
+  }
+
+  /** 위치별 pinning 횟수 (벤치마크/진단용) */
+  public Map<String, Long> pinnedSites() {
+    Map<String, Long> snapshot = new TreeMap<>();
+    pinnedSites.forEach((site, count) -> snapshot.put(site, count.sum()));
+    return snapshot;
+  }
+
+  private void onPinned(RecordedEvent event) {
+    RecordedStackTrace stackTrace = event.getStackTrace();
+    String site = siteOf(stackTrace);
+    LongAdder created = new LongAdder();
+    LongAdder existing = pinnedSites.putIfAbsent(site, created);
+    (existing != null ? existing : created).increment();
+    if (existing == null) {
+      log.warn("Virtual thread pinned for {} ms at {}{}", event.getDuration().toMillis(), site, format(stackTrace));
+    } else if (log.isDebugEnabled()) {
+      log.debug("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), site);
+    }
+  }
+
+  private static String siteOf(RecordedStackTrace stackTrace) {
+    if (stackTrace == null) {
+      return "unknown";
+    }
+    String firstExternal = null;
+    for (RecordedFrame frame : stackTrace.getFrames()) {
+      String type = frame.getMethod().getType().getName();
+      if (type.startsWith(APP_PACKAGE)) {
+        return describe(frame);
+      }
+      if (firstExternal == null && !type.startsWith("java.") && !type.startsWith("jdk.")
+          && !type.startsWith("sun.")) {
+        firstExternal = describe(frame);
+      }
+    }
+    return firstExternal != null ? firstExternal : "jdk";
+  }
+
+  private static String describe(RecordedFrame frame) {
+    return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+        + ":" + frame.getLineNumber();
+  }
+
+  private static String format(RecordedStackTrace stackTrace) {
+    if (stackTrace == null) {
+      return "";
+    }
+    StringBuilder sb = new StringBuilder();
+    stackTrace.getFrames().stream().limit(MAX_LOGGED_FRAMES)
+        .forEach(frame -> sb.append(System.lineSeparator()).append("\tat ").append(describe(frame)));
+    return sb.toString();
+  }
+}
@@ -15,6 +15,7 @@ public enum ErrorCode {
 
   // 401 UNAUTHORIZED (인증 실패)
   INVALID_CREDENTIALS(HttpStatus.UNAUTHORIZED, "이메일 또는 비밀번호가 올바르지 않습니다."),
+  INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "리프레시 토큰이 유효하지 않습니다. 다시 로그인해 주세요."),
 
   // 403 FORBIDDEN (접근 금지)
 
@@ -27,6 +28,16 @@ public enum ErrorCode {
 
   // 409 CONFLICT
   DUPLICATE_PRODUCT_NAME(HttpStatus.CONFLICT, "이미 존재하는 상품명입니다."),
+  OUT_OF_STOCK(HttpStatus.CONFLICT, "재고가 부족합니다."),
+  IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "같은 Idempotency-Key 요청이 아직 처리 중입니다."),
+  CHECKOUT_IN_PROGRESS(HttpStatus.CONFLICT, "결제가 진행 중입니다. 잠시 후 다시 시도해 주세요."),
+
+  // 422 UNPROCESSABLE ENTITY
+  IDEMPOTENCY_KEY_MISMATCH(HttpStatus.UNPROCESSABLE_ENTITY, "다른 요청에 이미 사용된 Idempotency-Key 입니다."),
+
+  // 429 TOO MANY REQUESTS
+  TOO_MANY_LOGIN_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, "시도 횟수가 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+  PASSWORD_HASHING_BUSY(HttpStatus.TOO_MANY_REQUESTS, "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요."),
 
   // 500 INTERNAL SERVER ERROR (서버 내부 오류)
   INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "내부 서버 오류가 발생했습니다.");
@@ -0,0 +1,172 @@
+package demo.cafemenu.global.idempotency;
+
+import static demo.cafemenu.global.exception.ErrorCode.IDEMPOTENCY_KEY_MISMATCH;
+import static demo.cafemenu.global.exception.ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS;
+import static demo.cafemenu.global.exception.ErrorCode.INVALID_REQUEST;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import demo.cafemenu.global.exception.ErrorCode;
+import demo.cafemenu.global.exception.ErrorResponse;
+import demo.cafemenu.global.security.UserDetailsImpl;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Idempotency-Key 헤더 처리 (결제/장바구니 변경).
+ * - 같은 사용자 + 같은 키로 다시 들어온 요청은 OrderService 를 거치지 않고 저장된 응답을 그대로 재생
+ * - 메서드/경로/본문(SHA-256)이 처음 요청과 다르면 재생하지 않고 422 (키 재사용 오류)
+ * - 첫 요청이 아직 처리 중이면 그 결과를 기다렸다가 재생 (경쟁 실행 없음)
+ * - 2xx 응답만 저장, 실패한 요청은 키를 풀어 재시도가 다시 실행되도록 함
+ * JWT 필터 뒤(인증 정보가 있는 상태)에서 동작
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+  public static final String HEADER = "Idempotency-Key";
+  public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+  private static final int MAX_KEY_LENGTH = 100;
+  private static final AntPathMatcher PATHS = new AntPathMatcher();
+
+  private final IdempotencyStore store;
+  private final ObjectMapper objectMapper;
+
+  @Value("${app.idempotency.wait-timeout:PT10S}")
+  private Duration waitTimeout;
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest req) {
+    if (!StringUtils.hasText(req.getHeader(HEADER))) {
+      return true;
+    }
+    String method = req.getMethod();
+    String path = req.getRequestURI();
+    return !(("POST".equals(method) && path.equals("/api/user/orders/checkout"))
+        || (("POST".equals(method) || "DELETE".equals(method)) && PATHS.match("/api/user/item/*", path))
+        || ("PATCH".equals(method) && path.equals("/api/user/order/cart")));
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+      throws ServletException, IOException {
+
+    Long userId = currentUserId();
+    if (userId == null) {
+      chain.doFilter(req, res); // 인증 실패는 뒤쪽 인가 단계에서 처리
+      return;
+    }
+    String key = req.getHeader(HEADER);
+    if (key.length() > MAX_KEY_LENGTH) {
+      writeError(res, INVALID_REQUEST);
+      return;
+    }
+
+    String scopedKey = userId + ":" + key;
+    CachedBodyRequest request = new CachedBodyRequest(req);
+    String method = req.getMethod();
+    String path = req.getRequestURI();
+    String bodyHash = request.bodyHash();
+
+    while (true) {
+      IdempotencyStore.Claim claim = store.claim(scopedKey);
+
+      if (!claim.owner()) {
+        StoredResponse stored = await(claim, res);
+        if (stored == null) {
+          if (res.isCommitted()) {
+            return; // 대기 시간 초과 응답을 이미 보냄
+          }
+          continue; // 앞선 요청 실패 → 다시 선점해서 실행
+        }
+        if (!stored.matches(method, path, bodyHash)) {
+          writeError(res, IDEMPOTENCY_KEY_MISMATCH);
+          return;
+        }
+        replay(stored, res);
+        return;
+      }
+
+      execute(request, res, chain, scopedKey, method, path, bodyHash);
+      return;
+    }
+  }
+
+  private void execute(HttpServletRequest req, HttpServletResponse res, FilterChain chain,
+      String scopedKey, String method, String path, String bodyHash) throws ServletException, IOException {
+    ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(res);
+    boolean stored = false;
+    try {
+      chain.doFilter(req, wrapper);
+      int status = wrapper.getStatus();
+      if (status >= 200 && status < 300) {
+        store.complete(scopedKey, new StoredResponse(method, path, bodyHash, status,
+            wrapper.getContentType(), wrapper.getContentAsByteArray()));
+        stored = true;
+      }
+    } finally {
+      if (!stored) {
+        store.abandon(scopedKey);
+      }
+      wrapper.copyBodyToResponse();
+    }
+  }
+
+  // 선행 요청 결과 대기 — 시간 초과 시 409 응답 후 null
+  private StoredResponse await(IdempotencyStore.Claim claim, HttpServletResponse res) throws IOException {
+    try {
+      return claim.future().get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      writeError(res, IDEMPOTENCY_REQUEST_IN_PROGRESS);
+      return null;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      writeError(res, IDEMPOTENCY_REQUEST_IN_PROGRESS);
+      return null;
+    } catch (ExecutionException e) {
+      return null;
+    }
+  }
+
+  private void replay(StoredResponse stored, HttpServletResponse res) throws IOException {
+    res.setStatus(stored.status());
+    if (stored.contentType() != null) {
+      res.setContentType(stored.contentType());
+    }
+    res.setHeader(REPLAYED_HEADER, "true");
+    res.setContentLength(stored.body().length);
+    res.getOutputStream().write(stored.body());
+  }
+
+  private void writeError(HttpServletResponse res, ErrorCode errorCode) throws IOException {
+    res.setStatus(errorCode.getStatus().value());
+    res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    res.setCharacterEncoding("UTF-8");
+    objectMapper.writeValue(res.getOutputStream(), new ErrorResponse(errorCode, errorCode.getDescription()));
+  }
+
+  private Long currentUserId() {
+    Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+    if (auth != null && auth.getPrincipal() instanceof UserDetailsImpl principal) {
+      return principal.getId();
+    }
+    return null;
+  }
+}
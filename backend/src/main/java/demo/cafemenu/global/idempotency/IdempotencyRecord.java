@@ -0,0 +1,60 @@
+package demo.cafemenu.global.idempotency;
+
+import demo.cafemenu.global.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 처리 완료된 멱등 요청의 응답 (재시작 후에도 재생하기 위해 저장)
+ */
+@Entity
+@Table(name = "idempotency_keys",
+    indexes = { @Index(name = "idx_idempotency_expires", columnList = "expires_at") })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class IdempotencyRecord extends BaseTimeEntity {
+
+  /** userId:Idempotency-Key */
+  @Id
+  @Column(name = "idem_key", length = 150)
+  private String key;
+
+  @Column(length = 10, nullable = false)
+  private String method;
+
+  @Column(length = 200, nullable = false)
+  private String path;
+
+  /** 요청 본문 SHA-256 (base64url) */
+  @Column(name = "body_hash", length = 64)
+  private String bodyHash;
+
+  @Column(nullable = false)
+  private Integer status;
+
+  @Column(name = "content_type", length = 100)
+  private String contentType;
+
+  @Lob
+  @Column(name = "response_body")
+  private byte[] body;
+
+  @Column(name = "expires_at", nullable = false)
+  private Instant expiresAt;
+
+  public StoredResponse toStoredResponse() {
+    return new StoredResponse(method, path, bodyHash, status, contentType, body == null ? new byte[0] : body);
+  }
+}
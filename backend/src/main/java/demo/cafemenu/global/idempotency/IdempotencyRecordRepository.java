@@ -0,0 +1,17 @@
+package demo.cafemenu.global.idempotency;
+
+import java.time.Instant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+  @Modifying
+  @Query("delete from IdempotencyRecord r where r.expiresAt < :now")
+  int deleteExpired(@Param("now") Instant now);
+
+}
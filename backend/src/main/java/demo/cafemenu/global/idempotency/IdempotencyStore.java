@@ -0,0 +1,134 @@
+package demo.cafemenu.global.idempotency;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 멱등 키 저장소.
+ * - 메모리: 키 → 처리 결과 future (진행 중인 중복 요청은 같은 future 를 기다림), TTL + 최대 개수 제한
+ * - DB(idempotency_keys): 완료된 응답 저장 → 재시작 후에도 재생 가능
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyStore {
+
+  private final IdempotencyRecordRepository repository;
+
+  private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+  private final ConcurrentLinkedQueue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+
+  @Value("${app.idempotency.ttl:PT24H}")
+  private Duration ttl;
+
+  @Value("${app.idempotency.max-entries:10000}")
+  private int maxEntries;
+
+  /**
+   * 키 선점 시도.
+   * - owner=true: 이 요청이 실제로 처리하고 complete/abandon 을 호출해야 함
+   * - owner=false: 먼저 들어온 요청의 결과(future)를 기다려 재생 (null 이면 앞선 요청 실패 → 다시 선점 시도)
+   */
+  public Claim claim(String key) {
+    while (true) {
+      Entry mine = new Entry(new CompletableFuture<>(), System.currentTimeMillis() + ttl.toMillis());
+      Entry existing = entries.putIfAbsent(key, mine);
+      if (existing != null) {
+        if (!existing.isExpired()) {
+          return new Claim(false, existing.future());
+        }
+        entries.remove(key, existing);
+        continue;
+      }
+
+      insertionOrder.add(key);
+      evictIfFull();
+
+      // 재시작 전에 처리된 요청이면 DB 에서 복원
+      StoredResponse persisted = repository.findById(key)
+          .filter(record -> record.getExpiresAt().isAfter(Instant.now()))
+          .map(IdempotencyRecord::toStoredResponse)
+          .orElse(null);
+      if (persisted != null) {
+        mine.future().complete(persisted);
+        return new Claim(false, mine.future());
+      }
+      return new Claim(true, mine.future());
+    }
+  }
+
+  public void complete(String key, StoredResponse response) {
+    try {
+      repository.save(IdempotencyRecord.builder()
+          .key(key)
+          .method(response.method())
+          .path(response.path())
+          .bodyHash(response.bodyHash())
+          .status(response.status())
+          .contentType(response.contentType())
+          .body(response.body())
+          .expiresAt(Instant.now().plus(ttl))
+          .build());
+    } catch (RuntimeException e) {
+      // 저장 실패해도 메모리 재생은 가능하므로 요청은 성공 처리
+      log.error("Failed to persist idempotency key {}", key, e);
+    }
+    Entry entry = entries.get(key);
+    if (entry != null) {
+      entry.future().complete(response);
+    }
+  }
+
+  // 처리 실패 — 키를 풀어 재시도가 다시 실행되도록
+  public void abandon(String key) {
+    Entry entry = entries.remove(key);
+    if (entry != null) {
+      entry.future().complete(null);
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${app.idempotency.cleanup-interval-ms:60000}")
+  @Transactional
+  public void evictExpired() {
+    entries.entrySet().removeIf(e -> e.getValue().isExpired() && e.getValue().future().isDone());
+    insertionOrder.removeIf(key -> !entries.containsKey(key));
+    int deleted = repository.deleteExpired(Instant.now());
+    if (deleted > 0) {
+      log.debug("Deleted {} expired idempotency keys", deleted);
+    }
+  }
+
+  // 최대 개수 초과 시 오래된 완료 항목부터 제거 (진행 중인 항목은 유지)
+  private void evictIfFull() {
+    Iterator<String> it = insertionOrder.iterator();
+    while (entries.size() > maxEntries && it.hasNext()) {
+      String oldest = it.next();
+      Entry entry = entries.get(oldest);
+      if (entry == null || entry.future().isDone()) {
+        it.remove();
+        if (entry != null) {
+          entries.remove(oldest, entry);
+        }
+      }
+    }
+  }
+
+  public record Claim(boolean owner, CompletableFuture<StoredResponse> future) {}
+
+  private record Entry(CompletableFuture<StoredResponse> future, long expiresAtMillis) {
+
+    boolean isExpired() {
+      return System.currentTimeMillis() > expiresAtMillis;
+    }
+  }
+}
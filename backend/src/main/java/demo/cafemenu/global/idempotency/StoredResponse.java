@@ -0,0 +1,20 @@
+package demo.cafemenu.global.idempotency;
+
+/**
+ * 재생할 응답 (요청 메서드/경로/본문 해시는 같은 키의 다른 요청 재사용 검증용)
+ */
+public record StoredResponse(
+    String method,
+    String path,
+    String bodyHash,
+    int status,
+    String contentType,
+    byte[] body
+) {
+
+  // bodyHash 가 없으면 본문 해시 저장 전에 기록된 키 — 메서드/경로만 비교
+  public boolean matches(String method, String path, String bodyHash) {
+    return this.method.equals(method) && this.path.equals(path)
+        && (this.bodyHash == null || this.bodyHash.equals(bodyHash));
+  }
+}
@@ -0,0 +1,66 @@
+package demo.cafemenu.global.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 Bloom filter (추가만 가능, 삭제 없음 → 만료 항목 정리는 새로 만들어 교체).
+ * - false 면 확실히 없음, true 면 있을 수도 있음 (정확한 확인은 호출 측에서)
+ * - 비트 배열은 AtomicLongArray → 추가/조회 모두 락 없음
+ * - 해시 k 개는 64bit FNV-1a 값 하나를 둘로 나눈 double hashing (h1 + i * h2)
+ */
+final class BloomFilter {
+
+  private final AtomicLongArray words;
+  private final long bits;
+  private final int hashes;
+
+  /**
+   * @param expectedInsertions 예상 항목 수
+   * @param falsePositiveRate  목표 오탐률 (예: 0.01)
+   */
+  BloomFilter(int expectedInsertions, double falsePositiveRate) {
+    int n = Math.max(1, expectedInsertions);
+    long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    this.words = new AtomicLongArray((int) Math.max(1, (m + 63) / 64));
+    this.bits = (long) words.length() * 64;
+    this.hashes = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+  }
+
+  void put(String value) {
+    long hash = fnv1a(value);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 0; i < hashes; i++) {
+      long bit = Integer.toUnsignedLong(h1 + i * h2) % bits;
+      int word = (int) (bit >>> 6);
+      long mask = 1L << bit;
+      long current = words.get(word);
+      while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+        current = words.get(word);
+      }
+    }
+  }
+
+  boolean mightContain(String value) {
+    long hash = fnv1a(value);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 0; i < hashes; i++) {
+      long bit = Integer.toUnsignedLong(h1 + i * h2) % bits;
+      if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static long fnv1a(String value) {
+    long hash = 0xcbf29ce484222325L;
+    for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= b & 0xff;
+      hash *= 0x100000001b3L;
+    }
+    return hash;
+  }
+}
@@ -19,6 +19,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   private final JwtTokenProvider tokenProvider;
 
+  // 재발급/로그아웃은 만료·폐기된 액세스 토큰이 붙어 와도 401 없이 처리 (토큰은 컨트롤러에서 직접 확인)
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest req) {
+    String path = req.getRequestURI();
+    return "POST".equals(req.getMethod())
+        && (path.equals("/api/user/token/refresh") || path.equals("/api/user/logout"));
+  }
+
   @Override
   protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
       throws ServletException, IOException {
@@ -27,10 +35,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     String token = resolveToken(req);
     if (token != null) {
       try {
-        // 토큰 유효성 검사
-        tokenProvider.validateToken(token);
-        // 사용자 인증 정보 생성
-        Authentication auth = tokenProvider.getAuthentication(token);
+        // 토큰 검증 + 사용자 인증 정보 생성 (한 번만 파싱, 검증된 토큰은 캐시)
+        Authentication auth = tokenProvider.authenticate(token);
         // 사용자 정보를 SecurityContext에 저장
         SecurityContextHolder.getContext().setAuthentication(auth);
       } catch (JwtException e) {
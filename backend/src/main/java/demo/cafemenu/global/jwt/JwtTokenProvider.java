@@ -5,6 +5,7 @@ import demo.cafemenu.domain.user.entity.User;
 import demo.cafemenu.global.security.UserDetailsImpl;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -12,14 +13,20 @@ import jakarta.annotation.PostConstruct;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class JwtTokenProvider {
 
+  private final VerifiedTokenCache verifiedTokenCache;
+  private final TokenRevocationList revocationList;
+
   @Value("${app.jwt.secret}")
   private String secretKey;
 
@@ -27,17 +34,22 @@ public class JwtTokenProvider {
 
   private Key key;
 
+  // 불변/스레드 안전 — 요청마다 parserBuilder() 로 새로 만들지 않고 재사용
+  private JwtParser parser;
+
   @PostConstruct
   public void init() {
     this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+    this.parser = Jwts.parserBuilder().setSigningKey(key).build();
   }
 
-  /** 액세스 토큰 생성: email(subject), role(claim) 포함 */
+  /** 액세스 토큰 생성: email(subject), role(claim), jti(폐기용 id) 포함 */
   public String createAccessToken(User user) {
     Date now = new Date();
     Date exp = new Date(now.getTime() + accessTokenValidity);
 
     return Jwts.builder()
+        .setId(UUID.randomUUID().toString()) // 폐기 목록에서 찾을 토큰 id
         .setSubject(user.getEmail()) // JWT payload의 subject(email)
         .claim("id", user.getId())
         .claim("role", user.getRole().name())
@@ -47,23 +59,54 @@ public class JwtTokenProvider {
         .compact();
   }
 
-  // JWT 토큰 유효성 검사
-  public void validateToken(String token) throws JwtException {
-    Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+  /**
+   * 토큰 검증 + 인증 객체 생성을 한 번의 파싱으로 처리.
+   * 같은 토큰이 다시 오면 캐시된 사용자 정보/권한으로 인증 객체만 새로 만듦 (서명 검증/파싱 생략, 토큰 exp 까지만)
+   * 캐시 여부와 상관없이 폐기 목록은 매번 확인 (메모리 Bloom filter → 정확한 집합)
+   */
+  public Authentication authenticate(String token) throws JwtException {
+    VerifiedToken verified = verify(token);
+    if (revocationList.isRevoked(verified.jti())) {
+      throw new JwtException("Token has been revoked");
+    }
+    return verified.toAuthentication();
+  }
+
+  /** 로그아웃: 남은 유효 시간 동안 이 액세스 토큰을 거부. 이미 만료/위조된 토큰은 무시 */
+  public void revoke(String token) {
+    VerifiedToken verified;
+    try {
+      verified = verify(token);
+    } catch (JwtException e) {
+      return;
+    }
+    revocationList.revoke(verified.jti(), verified.expiresAtMillis());
+    verifiedTokenCache.invalidate(VerifiedTokenCache.digest(token));
   }
 
-  // 인증 객체 생성
-  public Authentication getAuthentication(String token) {
-    Claims claims = Jwts.parserBuilder().setSigningKey(key).build()
-        .parseClaimsJws(token).getBody();
+  private VerifiedToken verify(String token) throws JwtException {
+    String digest = VerifiedTokenCache.digest(token);
+    VerifiedToken cached = verifiedTokenCache.get(digest);
+    if (cached != null) {
+      return cached;
+    }
+
+    Claims claims = parser.parseClaimsJws(token).getBody();
+    UserDetailsImpl principal = toPrincipal(claims);
+    VerifiedToken verified = new VerifiedToken(principal, List.copyOf(principal.getAuthorities()), claims.getId(),
+        claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE);
+    if (claims.getExpiration() != null) {
+      verifiedTokenCache.put(digest, verified);
+    }
+    return verified;
+  }
 
+  // 사용자 정보 생성 (불변 — 캐시에 보관)
+  private UserDetailsImpl toPrincipal(Claims claims) {
     String email = claims.getSubject();
     Long id = claims.get("id", Number.class).longValue();
     Role role = Role.valueOf(claims.get("role", String.class));
 
-    UserDetailsImpl userDetails = new UserDetailsImpl(id, email, null, role);
-    return new UsernamePasswordAuthenticationToken(
-        userDetails, null, userDetails.getAuthorities()
-    );
+    return new UserDetailsImpl(id, email, null, role);
   }
 }
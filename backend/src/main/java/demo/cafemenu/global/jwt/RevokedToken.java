@@ -0,0 +1,32 @@
+package demo.cafemenu.global.jwt;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 만료 전에 폐기된 액세스 토큰 (jti). 토큰 exp 가 지나면 삭제
+ */
+@Entity
+@Table(name = "revoked_tokens",
+    indexes = { @Index(name = "idx_revoked_expires", columnList = "expires_at") })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class RevokedToken {
+
+  @Id
+  @Column(length = 36)
+  private String jti;
+
+  @Column(name = "expires_at", nullable = false)
+  private Instant expiresAt;
+
+}
@@ -0,0 +1,20 @@
+package demo.cafemenu.global.jwt;
+
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+  List<RevokedToken> findByExpiresAtAfter(Instant now);
+
+  @Modifying
+  @Query("delete from RevokedToken t where t.expiresAt < :now")
+  int deleteExpired(@Param("now") Instant now);
+
+}
@@ -0,0 +1,111 @@
+package demo.cafemenu.global.jwt;
+
+import jakarta.annotation.PostConstruct;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 폐기된 액세스 토큰(jti) 목록.
+ * - 요청마다 호출되는 isRevoked 는 메모리만 확인: Bloom filter 가 없다고 하면 바로 false,
+ *   있을 수도 있다고 할 때만 정확한 집합(jti → exp) 확인 → DB 조회 없음
+ * - 폐기는 DB(revoked_tokens) 에 저장 후 메모리에 반영
+ * - 주기적으로 만료 항목을 지우고 DB 기준으로 새로 만들어 교체 (Bloom filter 는 삭제가 안 되므로)
+ *   → 다른 인스턴스에서 폐기한 토큰도 이 주기 안에 반영됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationList {
+
+  private final RevokedTokenRepository repository;
+
+  @Value("${app.jwt.revocation.expected-insertions:100000}")
+  private int expectedInsertions;
+
+  @Value("${app.jwt.revocation.false-positive-rate:0.01}")
+  private double falsePositiveRate;
+
+  // synchronized 대신 ReentrantLock — 락 안에서 DB I/O 를 해도 가상 스레드가 캐리어에 고정(pinning)되지 않음
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private volatile State state;
+
+  @PostConstruct
+  public void load() {
+    rebuild();
+  }
+
+  public boolean isRevoked(String jti) {
+    if (jti == null) {
+      return false;
+    }
+    State current = state;
+    return current.bloom().mightContain(jti) && current.exact().containsKey(jti);
+  }
+
+  @Transactional
+  public void revoke(String jti, long expiresAtMillis) {
+    if (jti == null || expiresAtMillis <= System.currentTimeMillis() || isRevoked(jti)) {
+      return;
+    }
+    lock.lock();
+    try {
+      repository.save(new RevokedToken(jti, Instant.ofEpochMilli(expiresAtMillis)));
+      state.add(jti, expiresAtMillis);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${app.jwt.revocation.rebuild-interval-ms:60000}")
+  @Transactional
+  public void evictExpired() {
+    int deleted = repository.deleteExpired(Instant.now());
+    if (deleted > 0) {
+      log.debug("Deleted {} expired revoked tokens", deleted);
+    }
+    rebuild();
+  }
+
+  // revoke 와 같은 락 → 교체 도중 추가된 항목이 이전 상태에만 들어가 사라지는 일 없음
+  private void rebuild() {
+    lock.lock();
+    try {
+      long now = System.currentTimeMillis();
+      List<RevokedToken> revoked = repository.findByExpiresAtAfter(Instant.ofEpochMilli(now));
+      State next = new State(
+          new BloomFilter(Math.max(expectedInsertions, revoked.size() * 2), falsePositiveRate),
+          new ConcurrentHashMap<>());
+      revoked.forEach(t -> next.add(t.getJti(), t.getExpiresAt().toEpochMilli()));
+      State previous = state;
+      if (previous != null) {
+        // 아직 커밋 전이라 조회에 안 잡힌 항목도 유지
+        previous.exact().forEach((jti, exp) -> {
+          if (exp > now) {
+            next.add(jti, exp);
+          }
+        });
+      }
+      state = next;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private record State(BloomFilter bloom, Map<String, Long> exact) {
+
+    void add(String jti, long expiresAtMillis) {
+      exact.put(jti, expiresAtMillis);
+      bloom.put(jti); // exact 먼저 넣어 Bloom 통과 후 exact 에서 놓치는 순간이 없도록
+    }
+  }
+}
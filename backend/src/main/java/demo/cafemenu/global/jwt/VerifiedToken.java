@@ -0,0 +1,30 @@
+package demo.cafemenu.global.jwt;
+
+import demo.cafemenu.global.security.UserDetailsImpl;
+import java.util.List;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * 서명 검증을 마친 액세스 토큰 정보 (불변 — 여러 요청이 캐시에서 공유)
+ * @param principal 토큰 claim 으로 만든 사용자 정보
+ * @param authorities 권한 목록 (불변 목록)
+ * @param jti 토큰 id (폐기 목록 확인용, 이전 발급 토큰은 null)
+ */
+public record VerifiedToken(
+    UserDetailsImpl principal,
+    List<GrantedAuthority> authorities,
+    String jti,
+    long expiresAtMillis
+) {
+
+  public VerifiedToken {
+    authorities = List.copyOf(authorities);
+  }
+
+  /** 요청마다 새 인증 객체 (details 등을 설정해도 다른 요청에 영향 없음) */
+  public Authentication toAuthentication() {
+    return new UsernamePasswordAuthenticationToken(principal, null, authorities);
+  }
+}
@@ -0,0 +1,107 @@
+package demo.cafemenu.global.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명 검증을 마친 토큰 캐시: SHA-256(토큰) → 사용자 정보/권한 (+ jti, exp). 인증 객체는 요청마다 새로 만듦
+ * - 원문 토큰은 보관하지 않음 (digest 만 키로 사용)
+ * - 항목마다 토큰의 exp 까지만 유효, 만료된 항목은 조회 시 제거
+ * - 최대 개수 초과 시 오래 전에 들어온 항목부터 제거
+ * - 개수는 AtomicInteger 로 따로 관리 (ConcurrentLinkedQueue.size() 는 호출마다 큐 전체를 셈)
+ */
+@Component
+public class VerifiedTokenCache {
+
+  private final ConcurrentHashMap<String, VerifiedToken> entries = new ConcurrentHashMap<>();
+  private final ConcurrentLinkedQueue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger size = new AtomicInteger();
+  /** insertionOrder 길이 (대략값 — 이미 빠진 키 정리 시점 판단용) */
+  private final AtomicInteger queued = new AtomicInteger();
+
+  @Value("${app.jwt.cache.max-entries:10000}")
+  private int maxEntries;
+
+  /** 캐시된 토큰 정보 (없거나 만료됐으면 null) */
+  public VerifiedToken get(String digest) {
+    VerifiedToken token = entries.get(digest);
+    if (token == null) {
+      return null;
+    }
+    if (token.expiresAtMillis() <= System.currentTimeMillis()) {
+      if (entries.remove(digest, token)) {
+        size.decrementAndGet();
+      }
+      return null;
+    }
+    return token;
+  }
+
+  public void put(String digest, VerifiedToken token) {
+    if (entries.put(digest, token) == null) {
+      size.incrementAndGet();
+      insertionOrder.add(digest);
+      queued.incrementAndGet();
+      evictIfFull();
+    }
+  }
+
+  public void invalidate(String digest) {
+    if (entries.remove(digest) != null) {
+      size.decrementAndGet();
+    }
+  }
+
+  public int size() {
+    return size.get();
+  }
+
+  public static String digest(String token) {
+    try {
+      byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private void evictIfFull() {
+    while (size.get() > maxEntries) {
+      String oldest = insertionOrder.poll();
+      if (oldest == null) {
+        break;
+      }
+      queued.decrementAndGet();
+      if (entries.remove(oldest) != null) {
+        size.decrementAndGet();
+      }
+    }
+    // 만료/무효화로 이미 빠진 키가 큐에 쌓이지 않도록 정리 (maxEntries 번 추가에 한 번꼴)
+    if (queued.get() > maxEntries * 2) {
+      compact();
+    }
+  }
+
+  private synchronized void compact() {
+    if (queued.get() <= maxEntries * 2) {
+      return;
+    }
+    int removed = 0;
+    Iterator<String> it = insertionOrder.iterator();
+    while (it.hasNext()) {
+      if (!entries.containsKey(it.next())) {
+        it.remove();
+        removed++;
+      }
+    }
+    queued.addAndGet(-removed);
+  }
+}
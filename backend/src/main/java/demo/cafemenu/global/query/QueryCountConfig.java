@@ -0,0 +1,29 @@
+package demo.cafemenu.global.query;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * prod 가 아닌 프로필에서만 DataSource 를 문장 수 집계 프록시로 감쌈 (요청별 X-Query-Count, 테스트 쿼리 예산).
+ * Hikari 지표/헬스 체크는 DelegatingDataSource 를 풀어서 원래 풀을 찾으므로 그대로 동작
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("!prod")
+public class QueryCountConfig {
+
+  @Bean
+  public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof QueryCountingDataSource)) {
+          return new QueryCountingDataSource(dataSource);
+        }
+        return bean;
+      }
+    };
+  }
+}
@@ -0,0 +1,48 @@
+package demo.cafemenu.global.query;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 요청 처리 중 실행된 SQL 문장 수를 X-Query-Count 응답 헤더로 (prod 제외).
+ * 시큐리티 체인보다 바깥에서 동작해 인증/멱등 처리 문장까지 포함.
+ * 헤더는 응답이 커밋되는 순간(본문 쓰기 직전) 또는 체인 종료 후 설정 —
+ * 비동기 스트리밍 응답은 요청 스레드에서 커밋되기 전까지의 문장만 집계
+ */
+@Component
+@Profile("!prod")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+  public static final String HEADER = "X-Query-Count";
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+      throws ServletException, IOException {
+
+    long start = QueryCounter.current();
+    Thread requestThread = Thread.currentThread();
+    HttpServletResponse counting = new OnCommittedResponseWrapper(res) {
+      @Override
+      protected void onResponseCommitted() {
+        if (Thread.currentThread() == requestThread) {
+          res.setHeader(HEADER, Long.toString(QueryCounter.current() - start));
+        }
+      }
+    };
+
+    chain.doFilter(req, counting);
+    if (!res.isCommitted()) {
+      res.setHeader(HEADER, Long.toString(QueryCounter.current() - start));
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package demo.cafemenu.global.query;
+
+/**
+ * 스레드별 누적 SQL 문장 수 (prepareStatement/prepareCall/createStatement 호출 단위).
+ * 구간 측정은 시작/끝의 current() 차이로 — 요청 스레드에서 실행된 문장만 집계되므로
+ * 다른 스레드(@Async, StreamingResponseBody, 스케줄러)에서 실행된 문장은 포함되지 않음
+ */
+public final class QueryCounter {
+
+  private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+  private QueryCounter() {
+  }
+
+  static void increment() {
+    COUNT.get()[0]++;
+  }
+
+  public static long current() {
+    return COUNT.get()[0];
+  }
+}
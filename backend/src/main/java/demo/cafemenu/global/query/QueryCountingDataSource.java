@@ -0,0 +1,45 @@
+package demo.cafemenu.global.query;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 커넥션에서 문장을 준비할 때마다 QueryCounter 를 올리는 DataSource 프록시.
+ * Hibernate 와 JdbcTemplate(가져오기/내보내기/재고) 경로를 모두 같은 기준으로 셈.
+ * JDBC batch 는 prepare 한 번으로 묶이므로 1건, IDENTITY insert 처럼 행마다 prepare 하면 행 수만큼
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+  public QueryCountingDataSource(DataSource target) {
+    super(target);
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return counting(super.getConnection());
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return counting(super.getConnection(username, password));
+  }
+
+  private static Connection counting(Connection target) {
+    return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+        (proxy, method, args) -> {
+          String name = method.getName();
+          if (name.startsWith("prepare") || name.equals("createStatement")) {
+            QueryCounter.increment();
+          }
+          try {
+            return method.invoke(target, args);
+          } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+          }
+        });
+  }
+}
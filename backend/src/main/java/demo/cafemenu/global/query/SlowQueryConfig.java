@@ -0,0 +1,32 @@
+package demo.cafemenu.global.query;
+
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * app.slow-query.enabled=true 일 때 DataSource 를 느린 SQL 표본 로그 프록시로 감쌈 (prod 프로필에서 켬)
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "app.slow-query", name = "enabled", havingValue = "true")
+public class SlowQueryConfig {
+
+  @Bean
+  public static BeanPostProcessor slowQueryDataSourcePostProcessor(Environment env) {
+    Duration threshold = env.getProperty("app.slow-query.threshold", Duration.class, Duration.ofMillis(200));
+    double sampleRate = env.getProperty("app.slow-query.sample-rate", Double.class, 1.0);
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof SlowQueryDataSource)) {
+          return new SlowQueryDataSource(dataSource, threshold, sampleRate);
+        }
+        return bean;
+      }
+    };
+  }
+}
@@ -0,0 +1,104 @@
+package demo.cafemenu.global.query;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 느린 SQL 표본 로그 — 문장마다 로그를 남기는 show-sql/bind trace 대신 (prod).
+ * - execute* 호출 시간이 threshold 이상인 문장만 대상, 그중 sample-rate 비율만 WARN 로그
+ * - 바인드 값은 남기지 않고 SQL 은 MAX_SQL_LENGTH 자까지만, 표본에서 빠진 건수는 다음 로그에 함께 출력
+ * - 측정 구간은 실행 호출까지 (스트리밍 ResultSet 의 fetch 시간은 제외)
+ */
+@Slf4j
+public class SlowQueryDataSource extends DelegatingDataSource {
+
+  private static final int MAX_SQL_LENGTH = 1000;
+
+  private final long thresholdNanos;
+  private final double sampleRate;
+  private final AtomicLong skipped = new AtomicLong();
+
+  public SlowQueryDataSource(DataSource target, Duration threshold, double sampleRate) {
+    super(target);
+    this.thresholdNanos = threshold.toNanos();
+    this.sampleRate = sampleRate;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return timing(super.getConnection());
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return timing(super.getConnection(username, password));
+  }
+
+  private Connection timing(Connection target) {
+    return proxy(Connection.class, (proxy, method, args) -> {
+      Object result = invoke(target, method, args);
+      return switch (method.getName()) {
+        case "prepareStatement" -> proxy(PreparedStatement.class, statementHandler(result, (String) args[0]));
+        case "prepareCall" -> proxy(CallableStatement.class, statementHandler(result, (String) args[0]));
+        case "createStatement" -> proxy(Statement.class, statementHandler(result, null));
+        default -> result;
+      };
+    });
+  }
+
+  // preparedSql 이 null 이면 Statement.execute*(sql) 의 인자를 SQL 로 사용
+  private InvocationHandler statementHandler(Object target, String preparedSql) {
+    return (proxy, method, args) -> {
+      if (!method.getName().startsWith("execute")) {
+        return invoke(target, method, args);
+      }
+      long start = System.nanoTime();
+      try {
+        return invoke(target, method, args);
+      } finally {
+        long elapsed = System.nanoTime() - start;
+        if (elapsed >= thresholdNanos) {
+          String sql = preparedSql != null ? preparedSql
+              : args != null && args.length > 0 && args[0] instanceof String s ? s : "<batch>";
+          record(sql, method.getName(), elapsed);
+        }
+      }
+    };
+  }
+
+  private void record(String sql, String call, long elapsedNanos) {
+    if (ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+      skipped.incrementAndGet();
+      return;
+    }
+    String trimmed = sql.length() > MAX_SQL_LENGTH ? sql.substring(0, MAX_SQL_LENGTH) + "..." : sql;
+    log.warn("Slow query {}ms ({}, {} unsampled since last): {}",
+        elapsedNanos / 1_000_000, call, skipped.getAndSet(0), trimmed);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+    return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+  }
+
+  private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getTargetException();
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package demo.cafemenu.global.security;
+
+import static demo.cafemenu.global.exception.ErrorCode.PASSWORD_HASHING_BUSY;
+
+import demo.cafemenu.global.exception.BusinessException;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * BCrypt 를 전용 스레드 풀에서만 실행하는 PasswordEncoder.
+ * - 스레드 수 고정 + 대기열 제한: 동시에 해싱 중/대기 중인 요청이 threads + queue-capacity 를 넘으면 즉시 거절(429)
+ *   → 로그인 폭주가 CPU 와 Tomcat 스레드를 다 차지해 다른 API 가 밀리는 일을 막음
+ * - 요청 스레드는 결과만 기다림 (wait-timeout 초과 시 429)
+ * 회원가입/로그인(DaoAuthenticationProvider)/초기 데이터 모두 이 빈을 통해 해싱
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+  private final PasswordEncoder delegate;
+  private final ThreadPoolExecutor executor;
+  private final Duration waitTimeout;
+
+  public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity,
+      Duration waitTimeout) {
+    this.delegate = delegate;
+    this.waitTimeout = waitTimeout;
+    AtomicInteger sequence = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        task -> {
+          Thread thread = new Thread(task, "password-hash-" + sequence.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.AbortPolicy());
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return call(() -> delegate.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return call(() -> delegate.matches(rawPassword, encodedPassword));
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdownNow();
+  }
+
+  private <T> T call(Callable<T> task) {
+    Future<T> future;
+    try {
+      future = executor.submit(task);
+    } catch (RejectedExecutionException e) {
+      throw new BusinessException(PASSWORD_HASHING_BUSY);
+    }
+    try {
+      return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      throw new BusinessException(PASSWORD_HASHING_BUSY);
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new BusinessException(PASSWORD_HASHING_BUSY);
+    } catch (ExecutionException e) {
+      throw e.getCause() instanceof RuntimeException re ? re : new IllegalStateException(e.getCause());
+    }
+  }
+}
@@ -0,0 +1,124 @@
+package demo.cafemenu.global.security;
+
+import static demo.cafemenu.global.exception.ErrorCode.TOO_MANY_LOGIN_ATTEMPTS;
+
+import demo.cafemenu.global.exception.BusinessException;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인/회원가입 시도 제한 (BCrypt 실행 전에 확인 → 거절은 해싱 없이 바로 429).
+ * - 이메일별, 클라이언트 IP별 토큰 버킷 (둘 다 통과해야 시도 가능)
+ * - 버킷 = "다음 토큰이 생기는 시각"(GCRA) 하나를 AtomicLong 에 두고 CAS 로 갱신 → 락 없음
+ * - 키는 해시로 여러 ConcurrentHashMap 샤드에 분산, 다 채워진(= 한동안 안 쓴) 버킷은 주기적으로 제거
+ * 클라이언트 IP 는 getRemoteAddr() 기준 (프록시 뒤에 둘 경우 forward-headers-strategy 설정 필요)
+ */
+@Component
+public class LoginThrottle {
+
+  @Value("${app.login-throttle.shards:16}")
+  private int shardCount;
+
+  @Value("${app.login-throttle.email.capacity:5}")
+  private int emailCapacity;
+
+  @Value("${app.login-throttle.email.refill-interval:PT30S}")
+  private Duration emailRefillInterval;
+
+  @Value("${app.login-throttle.ip.capacity:30}")
+  private int ipCapacity;
+
+  @Value("${app.login-throttle.ip.refill-interval:PT2S}")
+  private Duration ipRefillInterval;
+
+  private Buckets emailBuckets;
+  private Buckets ipBuckets;
+
+  @PostConstruct
+  public void init() {
+    emailBuckets = new Buckets(shardCount, emailCapacity, emailRefillInterval);
+    ipBuckets = new Buckets(shardCount, ipCapacity, ipRefillInterval);
+  }
+
+  /** 로그인 시도: IP → 이메일 순으로 토큰 소비, 하나라도 없으면 429 */
+  public void acquireLogin(String email, String clientIp) {
+    if (!ipBuckets.tryAcquire(clientIp)
+        || !emailBuckets.tryAcquire(email == null ? "" : email.trim().toLowerCase(Locale.ROOT))) {
+      throw new BusinessException(TOO_MANY_LOGIN_ATTEMPTS);
+    }
+  }
+
+  /** 회원가입 시도: IP 기준만 */
+  public void acquireSignup(String clientIp) {
+    if (!ipBuckets.tryAcquire(clientIp)) {
+      throw new BusinessException(TOO_MANY_LOGIN_ATTEMPTS);
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${app.login-throttle.eviction-interval-ms:60000}")
+  public void evictIdle() {
+    emailBuckets.evictIdle();
+    ipBuckets.evictIdle();
+  }
+
+  /**
+   * 샤드된 토큰 버킷 모음.
+   * 버킷 값 tat: 이 시각(nanoTime)이 지나야 버킷이 가득 참. 한 번 소비할 때마다 interval 만큼 뒤로 밀고,
+   * now 보다 capacity * interval 넘게 앞서게 되면 토큰 없음
+   */
+  static final class Buckets {
+
+    private final ConcurrentHashMap<String, AtomicLong>[] shards;
+    private final long interval;
+    private final long burst;
+
+    @SuppressWarnings("unchecked")
+    Buckets(int shardCount, int capacity, Duration refillInterval) {
+      int n = Integer.highestOneBit(Math.max(1, shardCount - 1) << 1); // 2의 거듭제곱
+      this.shards = new ConcurrentHashMap[n];
+      for (int i = 0; i < n; i++) {
+        shards[i] = new ConcurrentHashMap<>();
+      }
+      this.interval = refillInterval.toNanos();
+      this.burst = capacity * interval;
+    }
+
+    boolean tryAcquire(String key) {
+      ConcurrentHashMap<String, AtomicLong> shard = shardOf(key);
+      AtomicLong tat = shard.get(key);
+      if (tat == null) {
+        tat = shard.computeIfAbsent(key, k -> new AtomicLong(System.nanoTime()));
+      }
+      while (true) {
+        long now = System.nanoTime();
+        long current = tat.get();
+        long next = Math.max(current, now) + interval;
+        if (next - now > burst) {
+          return false;
+        }
+        if (tat.compareAndSet(current, next)) {
+          return true;
+        }
+      }
+    }
+
+    // 가득 찬 버킷은 없는 것과 같으므로 제거해도 제한 결과가 달라지지 않음
+    void evictIdle() {
+      long now = System.nanoTime();
+      for (ConcurrentHashMap<String, AtomicLong> shard : shards) {
+        shard.values().removeIf(tat -> tat.get() - now <= 0);
+      }
+    }
+
+    private ConcurrentHashMap<String, AtomicLong> shardOf(String key) {
+      int h = key.hashCode();
+      return shards[(h ^ (h >>> 16)) & (shards.length - 1)];
+    }
+  }
+}
@@ -0,0 +1,47 @@
+package demo.cafemenu.global.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 요청별 상관관계 ID — 로그 MDC(correlationId) 와 X-Request-Id 응답 헤더.
+ * 프록시/클라이언트가 보낸 X-Request-Id 가 형식에 맞으면 그대로 쓰고, 없거나 이상하면 새로 발급.
+ * JSON 로그(prod)에는 MDC 가 필드로 들어가고, 비동기 실행기로는 MdcTaskDecorator 가 전달
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CorrelationIdFilter extends OncePerRequestFilter {
+
+  public static final String HEADER = "X-Request-Id";
+  public static final String MDC_KEY = "correlationId";
+
+  private static final Pattern VALID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+      throws ServletException, IOException {
+
+    String incoming = req.getHeader(HEADER);
+    String correlationId = incoming != null && VALID.matcher(incoming).matches()
+        ? incoming
+        : UUID.randomUUID().toString();
+
+    MDC.put(MDC_KEY, correlationId);
+    res.setHeader(HEADER, correlationId);
+    try {
+      chain.doFilter(req, res);
+    } finally {
+      MDC.remove(MDC_KEY);
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package demo.cafemenu.global.web;
+
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.CacheControl;
+import org.springframework.util.StringUtils;
+
+/**
+ * 버전 기반 강한 ETag / If-None-Match 비교.
+ * 버전 카운터는 재시작하면 0부터 다시 시작하므로 기동 시각(epoch)을 ETag 에 포함 → 재시작 전 ETag 와 충돌하지 않음
+ */
+public final class ETags {
+
+  private static final String EPOCH = Long.toString(System.currentTimeMillis(), 36);
+
+  // 인증이 필요한 응답 → 공유 캐시 금지, 브라우저는 매번 재검증(304 로 본문 전송 생략)
+  public static final CacheControl REVALIDATE =
+      CacheControl.maxAge(0, TimeUnit.SECONDS).cachePrivate().mustRevalidate();
+
+  private ETags() {
+  }
+
+  public static String strong(Object... parts) {
+    StringBuilder sb = new StringBuilder("\"").append(EPOCH);
+    for (Object part : parts) {
+      sb.append('-').append(part);
+    }
+    return sb.append('"').toString();
+  }
+
+  /**
+   * If-None-Match 헤더가 etag 와 일치하는지 (RFC 9110: If-None-Match 는 약한 비교, "*" 허용)
+   */
+  public static boolean matches(String ifNoneMatch, String etag) {
+    if (!StringUtils.hasText(ifNoneMatch)) {
+      return false;
+    }
+    for (String candidate : ifNoneMatch.split(",")) {
+      String tag = candidate.trim();
+      if (tag.equals("*")) {
+        return true;
+      }
+      if (tag.startsWith("W/")) {
+        tag = tag.substring(2);
+      }
+      if (tag.equals(etag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
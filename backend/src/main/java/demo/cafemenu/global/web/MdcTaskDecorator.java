@@ -0,0 +1,36 @@
+package demo.cafemenu.global.web;
+
+import java.util.Map;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청 스레드의 MDC(상관관계 ID)를 비동기 작업(@Async, StreamingResponseBody)으로 복사.
+ * Boot 가 TaskDecorator 빈을 applicationTaskExecutor 에 자동으로 적용
+ */
+@Component
+public class MdcTaskDecorator implements TaskDecorator {
+
+  @Override
+  public Runnable decorate(Runnable runnable) {
+    Map<String, String> context = MDC.getCopyOfContextMap();
+    return () -> {
+      Map<String, String> previous = MDC.getCopyOfContextMap();
+      if (context != null) {
+        MDC.setContextMap(context);
+      } else {
+        MDC.clear();
+      }
+      try {
+        runnable.run();
+      } finally {
+        if (previous != null) {
+          MDC.setContextMap(previous);
+        } else {
+          MDC.clear();
+        }
+      }
+    };
+  }
+}
@@ -1,9 +1,9 @@
 package demo.cafemenu;
 
+import demo.cafemenu.support.IntegrationTest;
 import org.junit.jupiter.api.Test;
-import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@IntegrationTest
 class CafeMenuApplicationTests {
 
     @Test
@@ -0,0 +1,305 @@
+package demo.cafemenu;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import demo.cafemenu.domain.order.entity.Order;
+import demo.cafemenu.domain.order.entity.OrderStatus;
+import demo.cafemenu.domain.order.repository.OrderRepository;
+import demo.cafemenu.domain.product.entity.Product;
+import demo.cafemenu.domain.product.stock.StockLedger;
+import demo.cafemenu.domain.user.entity.User;
+import demo.cafemenu.domain.user.reposiitory.UserRepository;
+import demo.cafemenu.domain.user.service.RefreshTokenService;
+import demo.cafemenu.global.jwt.JwtTokenProvider;
+import demo.cafemenu.global.query.QueryCountFilter;
+import demo.cafemenu.support.Fixtures;
+import demo.cafemenu.support.IntegrationTest;
+import demo.cafemenu.support.QueryBudget;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+/**
+ * 엔드포인트별 SQL 문장 수 예산 (N+1 회귀 방지).
+ * - 장바구니/주문 내역은 품목 ITEMS 개, 결제 완료 주문 PAID_ORDERS 개로 준비 — 행마다 조회하면 예산을 크게 넘김
+ * - 예산은 데이터 건수와 무관한 상수, 요청 스레드에서 실행된 문장만 집계 (QueryCounter)
+ */
+@IntegrationTest
+class EndpointQueryBudgetTests {
+
+    private static final int ITEMS = 10;
+    private static final int PAID_ORDERS = 3;
+    private static final AtomicInteger SEQ = new AtomicInteger();
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private Fixtures fixtures;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private StockLedger stockLedger;
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    private List<Product> products;
+    private Long stockedProductId;
+    private Long spareProductId;
+    private String userToken;
+    private String adminToken;
+    private String refreshToken;
+
+    @BeforeEach
+    void setUp() {
+        // 요청 본문에 쓰는 이메일/상품명용 일련번호
+        SEQ.incrementAndGet();
+        products = new ArrayList<>();
+        for (int i = 0; i < ITEMS; i++) {
+            products.add(fixtures.product("budget"));
+        }
+        stockedProductId = fixtures.product("budget-stocked").getId();
+        spareProductId = fixtures.product("budget-spare").getId();
+        stockLedger.restock(stockedProductId, 100);
+
+        User user = fixtures.user("budget");
+        LocalDate today = LocalDate.now();
+        List<Order> orders = new ArrayList<>();
+        orders.add(order(user, today, OrderStatus.PENDING));
+        for (int d = 1; d <= PAID_ORDERS; d++) {
+            orders.add(order(user, today.minusDays(d), OrderStatus.PAID));
+        }
+        orderRepository.saveAll(orders);
+
+        userToken = jwtTokenProvider.createAccessToken(user);
+        adminToken = jwtTokenProvider.createAccessToken(userRepository.findByEmail("admin@test.com").orElseThrow());
+        refreshToken = refreshTokenService.issue(user.getId());
+    }
+
+    // ---- 상품 (사용자) ----
+
+    @Test
+    @QueryBudget(1)
+    void catalog() throws Exception {
+        mockMvc.perform(user(get("/api/user/beans")))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(QueryCountFilter.HEADER));
+    }
+
+    @Test
+    @QueryBudget(1)
+    void catalogSearch() throws Exception {
+        mockMvc.perform(user(get("/api/user/beans").param("q", "budget").param("size", "5")))
+                .andExpect(status().isOk());
+    }
+
+    // ---- 장바구니 / 주문 ----
+
+    @Test
+    @QueryBudget(3)
+    void paidOrders() throws Exception {
+        mockMvc.perform(user(get("/api/user/order")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(2)
+    void cart() throws Exception {
+        mockMvc.perform(user(get("/api/user/order/cart")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(4)
+    void addItem() throws Exception {
+        mockMvc.perform(user(post("/api/user/item/" + products.get(0).getId())))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(4)
+    void removeItem() throws Exception {
+        mockMvc.perform(user(delete("/api/user/item/" + products.get(0).getId())))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(9)
+    void updateCart() throws Exception {
+        String body = """
+                {"operations":[
+                  {"productId":%d,"quantity":5},
+                  {"productId":%d,"delta":-1},
+                  {"productId":%d,"quantity":0},
+                  {"productId":%d,"quantity":2}
+                ]}""".formatted(products.get(0).getId(), products.get(1).getId(), products.get(2).getId(),
+                spareProductId);
+        mockMvc.perform(user(patch("/api/user/order/cart")).contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk());
+    }
+
+    // PENDING 행 잠금 + 대상(주문/품목) 조회 + 주문 update + 사용 안 한 PENDING 삭제
+    @Test
+    @QueryBudget(4)
+    void checkout() throws Exception {
+        mockMvc.perform(user(post("/api/user/orders/checkout"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"shippingAddress\":\"Seoul\",\"shippingPostcode\":\"12345\"}"))
+                .andExpect(status().isOk());
+    }
+
+    // ---- 회원 ----
+
+    @Test
+    @QueryBudget(2)
+    void signup() throws Exception {
+        mockMvc.perform(post("/api/user/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"signup" + SEQ.get() + "@test.com\",\"password\":\"Signup1234!\","
+                                + "\"name\":\"signup\"}"))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @QueryBudget(4)
+    void login() throws Exception {
+        mockMvc.perform(post("/api/user/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"user@test.com\",\"password\":\"User1234!\"}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(5)
+    void refresh() throws Exception {
+        mockMvc.perform(post("/api/user/token/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"" + refreshToken + "\"}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(4)
+    void logout() throws Exception {
+        mockMvc.perform(user(post("/api/user/logout"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"" + refreshToken + "\"}"))
+                .andExpect(status().isNoContent());
+    }
+
+    // ---- 관리자 상품 / 재고 ----
+
+    @Test
+    @QueryBudget(1)
+    void adminList() throws Exception {
+        mockMvc.perform(admin(get("/api/admin/beans")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(3)
+    void adminCreate() throws Exception {
+        mockMvc.perform(admin(post("/api/admin/beans"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"budget-new-" + SEQ.get() + "\",\"price\":4000}"))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @QueryBudget(4)
+    void adminUpdate() throws Exception {
+        mockMvc.perform(admin(put("/api/admin/beans/" + spareProductId))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"budget-renamed-" + SEQ.get() + "\",\"price\":4500}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(4)
+    void adminDelete() throws Exception {
+        mockMvc.perform(admin(delete("/api/admin/beans/" + spareProductId)))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    @QueryBudget(1)
+    void adminGetStock() throws Exception {
+        mockMvc.perform(admin(get("/api/admin/beans/" + stockedProductId + "/stock")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(6)
+    void adminRestock() throws Exception {
+        mockMvc.perform(admin(put("/api/admin/beans/" + stockedProductId + "/stock"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"quantity\":50}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(3)
+    void adminUnlimit() throws Exception {
+        mockMvc.perform(admin(delete("/api/admin/beans/" + stockedProductId + "/stock")))
+                .andExpect(status().isNoContent());
+    }
+
+    // 행 수와 무관하게 기존 상품명 조회 1 + batch insert 1 + 카탈로그 재적재 1
+    @Test
+    @QueryBudget(3)
+    void adminImport() throws Exception {
+        StringBuilder csv = new StringBuilder("name,price,description\n");
+        for (int i = 0; i < 50; i++) {
+            csv.append("budget-import-").append(SEQ.get()).append('-').append(i).append(",3000,import\n");
+        }
+        mockMvc.perform(admin(post("/api/admin/beans/import")).contentType("text/csv").content(csv.toString()))
+                .andExpect(status().isOk());
+    }
+
+    // ---- 관리자 주문 ----
+
+    // 본문은 비동기 실행기에서 스트리밍 — 요청 스레드 문장(검증 단계)만 예산 대상
+    @Test
+    @QueryBudget(1)
+    void adminExport() throws Exception {
+        MvcResult started = mockMvc.perform(admin(get("/api/admin/orders/export")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk());
+    }
+
+    private Order order(User user, LocalDate batchDate, OrderStatus status) {
+        Order order = Order.builder().user(user).batchDate(batchDate).status(status).build();
+        products.forEach(p -> order.addItem(p.getId(), p.getPrice(), 1));
+        return order;
+    }
+
+    private MockHttpServletRequestBuilder user(MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, "Bearer " + userToken);
+    }
+
+    private MockHttpServletRequestBuilder admin(MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken);
+    }
+}
@@ -0,0 +1,110 @@
+package demo.cafemenu.benchmark;
+
+import demo.cafemenu.CafeMenuApplication;
+import demo.cafemenu.domain.order.batch.ShippingBatches;
+import demo.cafemenu.domain.order.dto.CheckoutRequest;
+import demo.cafemenu.domain.order.entity.Order;
+import demo.cafemenu.domain.order.entity.OrderStatus;
+import demo.cafemenu.domain.order.repository.OrderRepository;
+import demo.cafemenu.domain.order.service.OrderService;
+import demo.cafemenu.domain.product.entity.Product;
+import demo.cafemenu.domain.product.repository.ProductRepository;
+import demo.cafemenu.domain.user.entity.User;
+import demo.cafemenu.domain.user.reposiitory.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * IDENTITY vs 시퀀스(pooled-lo) id 생성 — JDBC 문장 수 비교.
+ * 같은 작업을 기본 설정과 pooled-ids 프로필로 각각 실행하고 Hibernate Statistics 의 prepared statement 수를 출력.
+ * - 상품 N건 saveAll (대량 등록)
+ * - PENDING 주문(품목 M개)을 같은 날짜 PAID 주문으로 checkoutAllPending 머지 (mergeItems)
+ * 실행: ./gradlew idStrategyBenchmark
+ */
+public class IdStrategyStatementBenchmark {
+
+    private static final int PRODUCTS = 1_000;
+    private static final int MERGED_ITEMS = 200;
+
+    public static void main(String[] args) {
+        Map<String, Map<String, Long>> results = new LinkedHashMap<>();
+        results.put("identity", run(null));
+        results.put("pooled-ids", run("pooled-ids"));
+
+        System.out.printf("%n%-28s %12s %12s%n", "scenario (prepared stmts)", "identity", "pooled-ids");
+        results.get("identity").forEach((scenario, identityCount) ->
+            System.out.printf("%-28s %12d %12d%n", scenario, identityCount,
+                results.get("pooled-ids").get(scenario)));
+    }
+
+    private static Map<String, Long> run(String profile) {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(CafeMenuApplication.class)
+            .properties(
+                "server.port=0",
+                "management.server.port=0",
+                "spring.datasource.url=jdbc:h2:mem:bench_" + (profile == null ? "identity" : "pooled")
+                    + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "spring.jpa.show-sql=false",
+                "spring.jpa.properties.hibernate.generate_statistics=true",
+                "logging.level.org.hibernate.SQL=warn",
+                "logging.level.org.hibernate.orm.jdbc.bind=warn",
+                "app.jwt.secret=benchmark-secret-benchmark-secret-benchmark-secret-0123456789");
+        if (profile != null) {
+            builder.profiles(profile);
+        }
+
+        try (ConfigurableApplicationContext ctx = builder.run()) {
+            Statistics stats = ctx.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+            TransactionTemplate tx = ctx.getBean(TransactionTemplate.class);
+            ProductRepository productRepository = ctx.getBean(ProductRepository.class);
+            UserRepository userRepository = ctx.getBean(UserRepository.class);
+            OrderRepository orderRepository = ctx.getBean(OrderRepository.class);
+            OrderService orderService = ctx.getBean(OrderService.class);
+            ShippingBatches shippingBatches = ctx.getBean(ShippingBatches.class);
+
+            Map<String, Long> counts = new LinkedHashMap<>();
+
+            counts.put("saveAll " + PRODUCTS + " products", measure(stats, () -> tx.execute(status -> {
+                List<Product> products = new ArrayList<>(PRODUCTS);
+                for (int i = 0; i < PRODUCTS; i++) {
+                    products.add(Product.builder().name("bench-" + i).price(1000 + i).description("bench").build());
+                }
+                return productRepository.saveAll(products);
+            })));
+
+            List<Product> products = productRepository.findAll().subList(0, MERGED_ITEMS);
+            Long userId = tx.execute(status -> {
+                User user = userRepository.save(User.builder()
+                    .email("bench@test.com").password("x").name("bench").build());
+                // 결제 시 이번 배송 배치일의 PAID 로 머지되는 경로
+                Order paid = Order.builder().user(user).batchDate(shippingBatches.current()).status(OrderStatus.PAID).build();
+                Order pending = Order.builder().user(user).batchDate(LocalDate.now()).build();
+                products.forEach(p -> pending.addItem(p.getId(), p.getPrice(), 1));
+                orderRepository.saveAll(List.of(paid, pending));
+                return user.getId();
+            });
+
+            counts.put("checkout merge " + MERGED_ITEMS + " items", measure(stats, () -> {
+                orderService.checkoutAllPending(userId, new CheckoutRequest("Seoul", "12345"));
+                return null;
+            }));
+            return counts;
+        }
+    }
+
+    private static long measure(Statistics stats, Supplier<?> work) {
+        stats.clear();
+        work.get();
+        return stats.getPrepareStatementCount();
+    }
+}
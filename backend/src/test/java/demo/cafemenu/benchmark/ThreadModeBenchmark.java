@@ -0,0 +1,205 @@
+package demo.cafemenu.benchmark;
+
+import demo.cafemenu.CafeMenuApplication;
+import demo.cafemenu.domain.product.entity.Product;
+import demo.cafemenu.domain.product.repository.ProductRepository;
+import demo.cafemenu.domain.user.entity.User;
+import demo.cafemenu.domain.user.reposiitory.UserRepository;
+import demo.cafemenu.global.config.VirtualThreadPinningMonitor;
+import demo.cafemenu.global.jwt.JwtTokenProvider;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 플랫폼 스레드(기본) vs virtual-threads 프로필 — 카탈로그/장바구니 혼합 트래픽 처리량과 p50/p99 비교.
+ * 각 모드로 앱을 띄워 실제 HTTP 엔드포인트에 부하를 주고, 워밍업 후 측정 구간의 결과만 집계.
+ * - 혼합 비율: 상품 목록 60%, 장바구니 조회 10%, 담기 15%, 빼기 15%
+ * - 사용자 USERS 명에게 클라이언트를 나눠 배정 (장바구니 락 경합이 한 사용자에 몰리지 않도록)
+ * - 클라이언트는 두 모드 모두 가상 스레드 (측정 대상은 서버 쪽 실행 모드)
+ * 실행: ./gradlew threadModeBenchmark [-Dbench.clients=400 -Dbench.seconds=20]
+ */
+public class ThreadModeBenchmark {
+
+    private static final int CLIENTS = Integer.getInteger("bench.clients", 400);
+    private static final int WARMUP_SECONDS = Integer.getInteger("bench.warmup", 5);
+    private static final int MEASURE_SECONDS = Integer.getInteger("bench.seconds", 20);
+    private static final int USERS = 50;
+    private static final int EXTRA_PRODUCTS = 200;
+
+    public static void main(String[] args) throws Exception {
+        Map<String, Result> results = new LinkedHashMap<>();
+        results.put("platform", run(null));
+        results.put("virtual-threads", run("virtual-threads"));
+
+        System.out.printf("%n%d clients, %ds measured after %ds warmup%n", CLIENTS, MEASURE_SECONDS, WARMUP_SECONDS);
+        System.out.printf("%-16s %12s %10s %10s %10s %8s%n", "mode", "req/s", "p50 ms", "p99 ms", "max ms", "errors");
+        results.forEach((mode, r) -> System.out.printf("%-16s %12.1f %10.2f %10.2f %10.2f %8d%n",
+            mode, r.throughput(), r.percentileMillis(50), r.percentileMillis(99), r.percentileMillis(100), r.errors()));
+
+        Result virtual = results.get("virtual-threads");
+        if (!virtual.pinnedSites().isEmpty()) {
+            System.out.println("\nvirtual thread pinning (site -> count):");
+            virtual.pinnedSites().forEach((site, count) -> System.out.printf("  %-80s %d%n", site, count));
+        }
+    }
+
+    private static Result run(String profile) throws Exception {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(CafeMenuApplication.class)
+            .properties(
+                "server.port=0",
+                "management.server.port=0",
+                "spring.datasource.url=jdbc:h2:mem:bench_" + (profile == null ? "platform" : "virtual")
+                    + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "spring.jpa.show-sql=false",
+                "spring.output.ansi.enabled=never",
+                "logging.level.org.hibernate.SQL=warn",
+                "logging.level.org.hibernate.orm.jdbc.bind=warn",
+                "logging.level.demo.cafemenu=warn",
+                "app.jwt.secret=benchmark-secret-benchmark-secret-benchmark-secret-0123456789");
+        if (profile != null) {
+            builder.profiles(profile);
+        }
+
+        try (ConfigurableApplicationContext ctx = builder.run()) {
+            int port = ((WebServerApplicationContext) ctx).getWebServer().getPort();
+            List<String> tokens = seedUsers(ctx);
+            List<Long> productIds = seedProducts(ctx);
+
+            Load load = new Load("http://localhost:" + port, tokens, productIds);
+            load.run(Duration.ofSeconds(WARMUP_SECONDS), false);
+            Result result = load.run(Duration.ofSeconds(MEASURE_SECONDS), true);
+
+            Map<String, Long> pinned = ctx.getBeanProvider(VirtualThreadPinningMonitor.class)
+                .stream().findFirst().map(VirtualThreadPinningMonitor::pinnedSites).orElse(Map.of());
+            return result.withPinnedSites(pinned);
+        }
+    }
+
+    private static List<String> seedUsers(ConfigurableApplicationContext ctx) {
+        UserRepository userRepository = ctx.getBean(UserRepository.class);
+        JwtTokenProvider tokenProvider = ctx.getBean(JwtTokenProvider.class);
+        List<String> tokens = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            User user = userRepository.save(User.builder()
+                .email("bench" + i + "@test.com").password("x").name("bench" + i).build());
+            tokens.add(tokenProvider.createAccessToken(user));
+        }
+        return tokens;
+    }
+
+    private static List<Long> seedProducts(ConfigurableApplicationContext ctx) {
+        ProductRepository productRepository = ctx.getBean(ProductRepository.class);
+        List<Product> products = new ArrayList<>(EXTRA_PRODUCTS);
+        for (int i = 0; i < EXTRA_PRODUCTS; i++) {
+            products.add(Product.builder().name("bench-" + i).price(1000 + i).description("bench").build());
+        }
+        productRepository.saveAll(products);
+        return productRepository.findAll().stream().map(Product::getId).toList();
+    }
+
+    /** CLIENTS 개의 가상 스레드가 정해진 시간 동안 혼합 요청을 연속으로 보냄 */
+    private record Load(String baseUrl, List<String> tokens, List<Long> productIds) {
+
+        Result run(Duration duration, boolean record) throws InterruptedException {
+            HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+            AtomicLong errors = new AtomicLong();
+            long[][] latencies = new long[CLIENTS][];
+            long deadline = System.nanoTime() + duration.toNanos();
+
+            long started = System.nanoTime();
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int c = 0; c < CLIENTS; c++) {
+                    int client = c;
+                    clients.submit(() -> {
+                        latencies[client] = loop(http, tokens.get(client % tokens.size()), deadline, errors);
+                    });
+                }
+            }
+            long elapsed = System.nanoTime() - started;
+
+            if (!record) {
+                return null;
+            }
+            long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+            return new Result(all, elapsed, errors.get(), Map.of());
+        }
+
+        private long[] loop(HttpClient http, String token, long deadline, AtomicLong errors) {
+            long[] samples = new long[1024];
+            int n = 0;
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (System.nanoTime() < deadline) {
+                HttpRequest request = next(random, token);
+                long start = System.nanoTime();
+                try {
+                    HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                    // 장바구니에 없는 상품 빼기(404)는 정상 흐름
+                    if (response.statusCode() >= 400 && response.statusCode() != 404) {
+                        errors.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    errors.incrementAndGet();
+                }
+                if (n == samples.length) {
+                    samples = Arrays.copyOf(samples, n * 2);
+                }
+                samples[n++] = System.nanoTime() - start;
+            }
+            return Arrays.copyOf(samples, n);
+        }
+
+        private HttpRequest next(ThreadLocalRandom random, String token) {
+            int roll = random.nextInt(100);
+            Long productId = productIds.get(random.nextInt(productIds.size()));
+            HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30));
+            if (roll < 60) {
+                return builder.uri(URI.create(baseUrl + "/api/user/beans")).GET().build();
+            } else if (roll < 70) {
+                return builder.uri(URI.create(baseUrl + "/api/user/order/cart")).GET().build();
+            } else if (roll < 85) {
+                return builder.uri(URI.create(baseUrl + "/api/user/item/" + productId))
+                    .POST(HttpRequest.BodyPublishers.noBody()).build();
+            }
+            return builder.uri(URI.create(baseUrl + "/api/user/item/" + productId)).DELETE().build();
+        }
+    }
+
+    private record Result(long[] sortedLatencies, long elapsedNanos, long errors, Map<String, Long> pinnedSites) {
+
+        double throughput() {
+            return sortedLatencies.length / (elapsedNanos / 1e9);
+        }
+
+        double percentileMillis(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100 * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, Math.min(index, sortedLatencies.length - 1))] / 1e6;
+        }
+
+        Result withPinnedSites(Map<String, Long> sites) {
+            return new Result(sortedLatencies, elapsedNanos, errors, sites);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package demo.cafemenu.domain.order.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 배송 배치일 규칙: 마감 전 결제는 그날, 마감 시각부터는 다음 날 배치
+ */
+class ShippingBatchesTests {
+
+    private final ShippingBatches batches = new ShippingBatches("14:00");
+
+    @Test
+    void beforeCutoffShipsToday() {
+        assertThat(batches.batchOf(LocalDateTime.of(2026, 10, 18, 13, 59, 59)))
+                .isEqualTo(LocalDate.of(2026, 10, 18));
+    }
+
+    @Test
+    void atOrAfterCutoffShipsNextDay() {
+        assertThat(batches.batchOf(LocalDateTime.of(2026, 10, 18, 14, 0)))
+                .isEqualTo(LocalDate.of(2026, 10, 19));
+        assertThat(batches.batchOf(LocalDateTime.of(2026, 12, 31, 23, 30)))
+                .isEqualTo(LocalDate.of(2027, 1, 1));
+    }
+
+    @Test
+    void batchClosesAtCutoffOfItsDate() {
+        assertThat(batches.closedAt(LocalDate.of(2026, 10, 18)))
+                .isEqualTo(LocalDateTime.of(2026, 10, 18, 14, 0));
+    }
+
+    @Test
+    void lastClosedIsTheBatchBeforeCurrent() {
+        assertThat(batches.lastClosed()).isEqualTo(batches.current().minusDays(1));
+    }
+}
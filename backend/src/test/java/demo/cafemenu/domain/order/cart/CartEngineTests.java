@@ -0,0 +1,139 @@
+package demo.cafemenu.domain.order.cart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import demo.cafemenu.domain.order.dto.CheckoutRequest;
+import demo.cafemenu.domain.order.dto.OrderDto;
+import demo.cafemenu.domain.order.dto.OrderItemDto;
+import demo.cafemenu.domain.order.entity.Order;
+import demo.cafemenu.domain.order.entity.OrderItem;
+import demo.cafemenu.domain.order.entity.OrderStatus;
+import demo.cafemenu.domain.order.repository.OrderRepository;
+import demo.cafemenu.domain.order.service.CheckoutService;
+import demo.cafemenu.domain.order.service.OrderService;
+import demo.cafemenu.domain.product.entity.Product;
+import demo.cafemenu.global.exception.BusinessException;
+import demo.cafemenu.global.exception.ErrorCode;
+import demo.cafemenu.support.Fixtures;
+import demo.cafemenu.support.IntegrationTest;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * write-behind 장바구니: 첫 반영 전 조회, 반영/재적재 왕복, 결제 시 미반영분 반영.
+ * 주기적 flush 는 테스트 중 돌지 않도록 간격을 길게 두고 flushDirty 를 직접 호출
+ */
+@IntegrationTest(properties = {
+        "app.cart.write-behind.enabled=true",
+        "app.cart.write-behind.flush-interval-ms=3600000"
+})
+class CartEngineTests {
+
+    @Autowired
+    private CartEngine cartEngine;
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private CheckoutService checkoutService;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private Fixtures fixtures;
+
+    private Long userId;
+    private Product latte;
+    private Product mocha;
+
+    @BeforeEach
+    void setUp() {
+        userId = fixtures.user("cart").getId();
+        latte = fixtures.product("cart-latte", 4500);
+        mocha = fixtures.product("cart-mocha", 5000);
+    }
+
+    @Test
+    void readsBeforeFirstFlushComeFromMemoryWithoutIds() {
+        orderService.addOrderItem(userId, latte.getId());
+        orderService.addOrderItem(userId, latte.getId());
+
+        List<OrderDto> cart = orderService.getPendingOrdersByUser(userId);
+
+        assertThat(cart).hasSize(1);
+        assertThat(cart.get(0).getOrderId()).isNull();
+        assertThat(cart.get(0).getTotalAmount()).isEqualTo(9000);
+        OrderItemDto line = cart.get(0).getItems().get(0);
+        assertThat(line.getId()).isNull();
+        assertThat(line.getQuantity()).isEqualTo(2);
+        assertThat(orderRepository.findByUserIdAndStatus(userId, OrderStatus.PENDING)).isEmpty();
+    }
+
+    @Test
+    void flushWritesCartAndReloadReadsItBack() {
+        orderService.addOrderItem(userId, latte.getId());
+        orderService.addOrderItem(userId, latte.getId());
+        orderService.addOrderItem(userId, mocha.getId());
+
+        cartEngine.flushDirty();
+
+        List<Order> pending = orderRepository.findWithItemsByUserIdAndStatus(userId, OrderStatus.PENDING);
+        assertThat(pending).hasSize(1);
+        assertThat(pending.get(0).getTotalAmount()).isEqualTo(14000);
+        assertThat(pending.get(0).getItems())
+                .extracting(OrderItem::getProductId, OrderItem::getQuantity)
+                .containsExactlyInAnyOrder(
+                        tuple(latte.getId(), 2),
+                        tuple(mocha.getId(), 1));
+
+        List<OrderDto> flushed = orderService.getPendingOrdersByUser(userId);
+        assertThat(flushed.get(0).getOrderId()).isEqualTo(pending.get(0).getId());
+        assertThat(flushed.get(0).getItems()).allSatisfy(item -> assertThat(item.getId()).isNotNull());
+
+        // 메모리 장바구니를 비우고 DB 에서 다시 적재해도 같은 내용
+        cartEngine.beginCheckout(userId);
+        cartEngine.endCheckout(userId);
+        List<OrderDto> reloaded = orderService.getPendingOrdersByUser(userId);
+        assertThat(reloaded).hasSize(1);
+        assertThat(reloaded.get(0).getOrderId()).isEqualTo(pending.get(0).getId());
+        assertThat(reloaded.get(0).getItems())
+                .extracting(OrderItemDto::getProductId, OrderItemDto::getQuantity, OrderItemDto::getProductName)
+                .containsExactlyInAnyOrder(
+                        tuple(latte.getId(), 2, latte.getName()),
+                        tuple(mocha.getId(), 1, mocha.getName()));
+    }
+
+    @Test
+    void checkoutFlushesDirtyCartFirst() {
+        orderService.addOrderItem(userId, latte.getId());
+        orderService.addOrderItem(userId, mocha.getId());
+
+        checkoutService.checkout(userId, new CheckoutRequest("Seoul", "12345"));
+
+        List<Order> paid = orderRepository.findWithItemsByUserIdAndStatus(userId, OrderStatus.PAID);
+        assertThat(paid).hasSize(1);
+        assertThat(paid.get(0).getItems()).hasSize(2);
+        assertThat(paid.get(0).getShippingAddress()).isEqualTo("Seoul");
+        assertThat(orderRepository.findByUserIdAndStatus(userId, OrderStatus.PENDING)).isEmpty();
+        assertThat(orderService.getPendingOrdersByUser(userId)).isEmpty();
+    }
+
+    @Test
+    void cartChangesAreRejectedWhileCheckingOut() {
+        orderService.addOrderItem(userId, latte.getId());
+
+        cartEngine.beginCheckout(userId);
+        try {
+            assertThatThrownBy(() -> orderService.addOrderItem(userId, mocha.getId()))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.CHECKOUT_IN_PROGRESS);
+        } finally {
+            cartEngine.endCheckout(userId);
+        }
+
+        orderService.addOrderItem(userId, mocha.getId());
+        assertThat(orderService.getPendingOrdersByUser(userId).get(0).getItems()).hasSize(2);
+    }
+}
@@ -0,0 +1,158 @@
+package demo.cafemenu.domain.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import demo.cafemenu.domain.order.dto.CheckoutRequest;
+import demo.cafemenu.domain.order.entity.Order;
+import demo.cafemenu.domain.order.entity.OrderItem;
+import demo.cafemenu.domain.order.entity.OrderStatus;
+import demo.cafemenu.domain.order.repository.OrderRepository;
+import demo.cafemenu.domain.product.entity.Product;
+import demo.cafemenu.global.exception.BusinessException;
+import demo.cafemenu.global.exception.ErrorCode;
+import demo.cafemenu.support.Fixtures;
+import demo.cafemenu.support.IntegrationTest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * 장바구니 담기/빼기 upsert 경로 (write-behind 꺼진 기본 모드).
+ * 동시 클릭에도 수량과 총액이 요청 수만큼 정확히 반영되는지, 0 이 되면 라인이 지워지는지 확인
+ */
+@IntegrationTest
+class CartUpsertTests {
+
+    private static final int CLICKS = 16;
+
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private Fixtures fixtures;
+
+    private Long userId;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        userId = fixtures.user("upsert").getId();
+        product = fixtures.product("upsert");
+    }
+
+    @Test
+    void repeatedAddIncrementsOneLine() {
+        orderService.addOrderItem(userId, product.getId());
+        orderService.addOrderItem(userId, product.getId());
+        orderService.addOrderItem(userId, product.getId());
+
+        Order cart = pendingCart();
+        assertThat(cart.getItems()).hasSize(1);
+        assertThat(cart.findItem(product.getId()).getQuantity()).isEqualTo(3);
+        assertThat(cart.getTotalAmount()).isEqualTo(9000);
+    }
+
+    // 장바구니(주문 행)가 있으면 주문 행 잠금으로 직렬화 — 동시 클릭이 모두 수량/총액에 반영
+    @Test
+    void concurrentAddsCountEveryClick() throws Exception {
+        orderService.addOrderItem(userId, product.getId());
+
+        runConcurrently(() -> orderService.addOrderItem(userId, product.getId()));
+
+        Order cart = pendingCart();
+        OrderItem line = cart.findItem(product.getId());
+        assertThat(line.getQuantity()).isEqualTo(CLICKS + 1);
+        assertThat(cart.getTotalAmount()).isEqualTo((CLICKS + 1) * 3000);
+    }
+
+    @Test
+    void concurrentRemovesNeverGoNegative() throws Exception {
+        for (int i = 0; i < CLICKS / 2; i++) {
+            orderService.addOrderItem(userId, product.getId());
+        }
+
+        AtomicInteger notFound = new AtomicInteger();
+        runConcurrently(() -> {
+            try {
+                orderService.removeFromCart(userId, product.getId());
+            } catch (BusinessException e) {
+                notFound.incrementAndGet();
+            }
+        });
+
+        Order cart = pendingCart();
+        assertThat(cart.getItems()).isEmpty();
+        assertThat(cart.getTotalAmount()).isZero();
+        assertThat(notFound.get()).isEqualTo(CLICKS - CLICKS / 2);
+    }
+
+    // 결제가 PENDING 행을 먼저 잠그므로, 결제와 겹친 담기는 결제 전 장바구니에 반영되거나 결제 후 새 장바구니로 감
+    @Test
+    void checkoutRacingAddsKeepsTotalsInStepWithItems() throws Exception {
+        orderService.addOrderItem(userId, product.getId());
+
+        AtomicInteger clicks = new AtomicInteger();
+        runConcurrently(() -> {
+            if (clicks.incrementAndGet() == CLICKS / 2) {
+                orderService.checkoutAllPending(userId, new CheckoutRequest("Seoul", "12345"));
+            } else {
+                orderService.addOrderItem(userId, product.getId());
+            }
+        });
+
+        int quantity = 0;
+        for (OrderStatus status : OrderStatus.values()) {
+            for (Order order : orderRepository.findWithItemsByUserIdAndStatus(userId, status)) {
+                int lineTotal = order.getItems().stream()
+                        .mapToInt(item -> item.getUnitPrice() * item.getQuantity()).sum();
+                assertThat(order.getTotalAmount()).isEqualTo(lineTotal);
+                quantity += order.getItems().stream().mapToInt(OrderItem::getQuantity).sum();
+            }
+        }
+        assertThat(quantity).isEqualTo(CLICKS);
+    }
+
+    @Test
+    void removeOfProductNotInCartFails() {
+        assertThatThrownBy(() -> orderService.removeFromCart(userId, product.getId()))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.PENDING_PRODUCT_NOT_FOUND);
+    }
+
+    private Order pendingCart() {
+        List<Order> pendings = orderRepository.findWithItemsByUserIdAndStatus(userId, OrderStatus.PENDING);
+        assertThat(pendings).hasSize(1);
+        return pendings.get(0);
+    }
+
+    // CLICKS 개 스레드가 동시에 출발
+    private static void runConcurrently(Runnable click) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(CLICKS);
+        try {
+            List<Future<?>> futures = new ArrayList<>(CLICKS);
+            for (int i = 0; i < CLICKS; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    click.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
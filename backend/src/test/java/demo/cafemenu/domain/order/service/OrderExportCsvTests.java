@@ -0,0 +1,34 @@
+package demo.cafemenu.domain.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * CSV 셀 이스케이프: 구분자/따옴표 처리와 수식 주입(CSV injection) 무력화
+ */
+class OrderExportCsvTests {
+
+    @Test
+    void plainValueIsWrittenAsIs() {
+        assertThat(OrderExportService.csvEscape("Seoul 123")).isEqualTo("Seoul 123");
+    }
+
+    @Test
+    void separatorsAndQuotesAreQuoted() {
+        assertThat(OrderExportService.csvEscape("a,b")).isEqualTo("\"a,b\"");
+        assertThat(OrderExportService.csvEscape("say \"hi\"")).isEqualTo("\"say \"\"hi\"\"\"");
+        assertThat(OrderExportService.csvEscape("line\nbreak")).isEqualTo("\"line\nbreak\"");
+    }
+
+    @Test
+    void formulaLikeValuesArePrefixedAndQuoted() {
+        assertThat(OrderExportService.csvEscape("=HYPERLINK(\"http://x\")"))
+                .isEqualTo("\"'=HYPERLINK(\"\"http://x\"\")\"");
+        assertThat(OrderExportService.csvEscape("+1+2")).isEqualTo("\"'+1+2\"");
+        assertThat(OrderExportService.csvEscape("-2+3")).isEqualTo("\"'-2+3\"");
+        assertThat(OrderExportService.csvEscape("@SUM(A1)")).isEqualTo("\"'@SUM(A1)\"");
+        assertThat(OrderExportService.csvEscape("\t=1")).isEqualTo("\"'\t=1\"");
+        assertThat(OrderExportService.csvEscape("\r=1")).isEqualTo("\"'\r=1\"");
+    }
+}
@@ -0,0 +1,113 @@
+package demo.cafemenu.domain.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import demo.cafemenu.domain.product.dto.ProductImportResult;
+import demo.cafemenu.domain.product.dto.ProductImportResult.RowError;
+import demo.cafemenu.domain.product.dto.ProductRequest;
+import demo.cafemenu.domain.product.entity.Product;
+import demo.cafemenu.domain.product.repository.ProductRepository;
+import demo.cafemenu.domain.product.service.ProductImportService.Format;
+import demo.cafemenu.global.exception.BusinessException;
+import demo.cafemenu.global.exception.ErrorCode;
+import demo.cafemenu.support.IntegrationTest;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * 상품 일괄 등록: CSV/NDJSON 모두 제품명 앞뒤 공백을 같은 규칙으로 정리해 중복 판단,
+ * 실패 행은 건너뛰고 행 번호별 사유 보고, 상품명 중복은 DB 제약조건으로도 막힘
+ */
+@IntegrationTest(properties = "app.product-import.batch-size=2")
+class ProductImportServiceTests {
+
+    private static final AtomicInteger SEQ = new AtomicInteger();
+
+    @Autowired
+    private ProductImportService productImportService;
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private ProductRepository productRepository;
+
+    private String prefix;
+
+    @BeforeEach
+    void setUp() {
+        prefix = "import-" + SEQ.incrementAndGet() + "-";
+    }
+
+    @Test
+    void csvImportsQuotedFieldsAndReportsBadRows() {
+        String csv = "\uFEFFprice,name,description\n"
+                + "3000,  " + prefix + "latte  ,\"milk, espresso\"\n"
+                + "abc," + prefix + "broken,\n"
+                + "\n"
+                + "4000,,no name\n"
+                + "5000,\"" + prefix + "mocha\",\"two\nlines\"\n";
+
+        ProductImportResult result = productImportService.importProducts(stream(csv), Format.CSV);
+
+        assertThat(result.total()).isEqualTo(4);
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.errors()).extracting(RowError::row).containsExactly(2L, 3L);
+        assertThat(productRepository.existsByName(prefix + "latte")).isTrue();
+        Product mocha = productRepository.findAll().stream()
+                .filter(p -> p.getName().equals(prefix + "mocha")).findFirst().orElseThrow();
+        assertThat(mocha.getDescription()).isEqualTo("two\nlines");
+    }
+
+    @Test
+    void csvAndNdjsonTrimNamesTheSameWay() {
+        productImportService.importProducts(stream("name,price\n " + prefix + "latte ,3000\n"), Format.CSV);
+
+        String ndjson = "{\"name\":\"  " + prefix + "latte\",\"price\":3000}\n"
+                + "\n"
+                + "{\"name\":\"" + prefix + "mocha \",\"price\":5000}\n"
+                + "{\"name\":\"" + prefix + "mocha\",\"price\":5000}\n"
+                + "{\"name\":\"   \",\"price\":1000}\n"
+                + "not json\n";
+        ProductImportResult result = productImportService.importProducts(stream(ndjson), Format.NDJSON);
+
+        assertThat(result.total()).isEqualTo(5);
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(result.errors())
+                .extracting(RowError::row, RowError::name)
+                .containsExactly(
+                        tuple(1L, prefix + "latte"),
+                        tuple(3L, prefix + "mocha"),
+                        tuple(4L, ""),
+                        tuple(5L, null));
+        assertThat(productRepository.existsByName(prefix + "mocha")).isTrue();
+        assertThat(productRepository.existsByName(prefix + "mocha ")).isFalse();
+    }
+
+    @Test
+    void createTrimsNameBeforeDuplicateCheck() {
+        productService.create(new ProductRequest(prefix + "latte", 3000, null));
+
+        assertThatThrownBy(() -> productService.create(new ProductRequest(" " + prefix + "latte ", 3000, null)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.DUPLICATE_PRODUCT_NAME);
+    }
+
+    // 서비스 사전 확인을 건너뛰어도 uk_product_name 이 막음
+    @Test
+    void databaseRejectsDuplicateNames() {
+        productRepository.save(Product.builder().name(prefix + "latte").price(3000).build());
+
+        assertThatThrownBy(() -> productRepository.save(Product.builder().name(prefix + "latte").price(3000).build()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
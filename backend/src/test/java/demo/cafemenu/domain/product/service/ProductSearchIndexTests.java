@@ -0,0 +1,131 @@
+package demo.cafemenu.domain.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import demo.cafemenu.domain.product.dto.ProductCursor;
+import demo.cafemenu.domain.product.dto.ProductPage;
+import demo.cafemenu.domain.product.dto.ProductResponse;
+import demo.cafemenu.domain.product.dto.ProductSort;
+import demo.cafemenu.global.exception.BusinessException;
+import demo.cafemenu.global.exception.ErrorCode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 상품 검색 keyset 커서: 정렬/검색어마다 페이지를 끝까지 넘기면 전체 결과와 같은 순서로 정확히 한 번씩
+ * (가격 동률, ':' 가 들어간 이름 포함)
+ */
+class ProductSearchIndexTests {
+
+    private static final int PAGE_SIZE = 3;
+
+    private final List<ProductResponse> products = List.of(
+            new ProductResponse(1L, "Americano", 3000, "espresso and water"),
+            new ProductResponse(2L, "Cafe Latte", 4500, "espresso and milk"),
+            new ProductResponse(3L, "Mocha", 5000, "chocolate latte"),
+            new ProductResponse(4L, "Flat White", 4500, "ristretto and milk"),
+            new ProductResponse(5L, "Cold Brew", 4000, "slow steeped"),
+            new ProductResponse(6L, "Latte: Vanilla", 5000, "vanilla syrup"),
+            new ProductResponse(7L, "Espresso", 2500, "single shot"),
+            new ProductResponse(8L, "Iced Latte", 4500, null));
+
+    private final ProductSearchIndex index = new ProductSearchIndex(products);
+
+    @Test
+    void pagingThroughEverySortVisitsEachProductOnceInOrder() {
+        for (ProductSort sort : ProductSort.values()) {
+            assertThat(walk(null, sort))
+                    .as(sort.name())
+                    .containsExactlyElementsOf(products.stream().sorted(sort.comparator()).toList());
+        }
+    }
+
+    @Test
+    void pagingThroughSearchResultsMatchesFullScan() {
+        for (String query : List.of("latte", "LATTE", "milk", "e", " es ", "zz", "")) {
+            for (ProductSort sort : ProductSort.values()) {
+                assertThat(walk(query, sort))
+                        .as(query + " / " + sort.name())
+                        .containsExactlyElementsOf(expected(query, sort));
+            }
+        }
+    }
+
+    @Test
+    void commonAndRareTermsInLargeCatalogMatchFullScan() {
+        List<ProductResponse> catalog = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            String description = id % 50 == 0 ? "single origin geisha" : "house blend";
+            catalog.add(new ProductResponse(id, "Bean " + id, 1000 + (int) (id % 7) * 500, description));
+        }
+        ProductSearchIndex large = new ProductSearchIndex(catalog);
+
+        // "blend": 후보가 카탈로그 대부분 → 정렬 순서 scan, "geisha": 드문 2-gram → posting 교집합
+        for (String query : List.of("blend", "geisha")) {
+            for (ProductSort sort : ProductSort.values()) {
+                List<ProductResponse> expected = catalog.stream()
+                        .filter(p -> p.description().contains(query))
+                        .sorted(sort.comparator())
+                        .limit(PAGE_SIZE)
+                        .toList();
+                assertThat(large.search(query, sort, null, PAGE_SIZE).products())
+                        .as(query + " / " + sort.name())
+                        .containsExactlyElementsOf(expected);
+            }
+        }
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        ProductPage page = index.search(null, ProductSort.ID, null, products.size());
+
+        assertThat(page.products()).hasSize(products.size());
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void cursorRoundTripsKeysContainingSeparator() {
+        ProductCursor cursor = new ProductCursor("Latte: Vanilla", 6L);
+
+        assertThat(ProductCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void malformedCursorIsInvalidRequest() {
+        assertThatThrownBy(() -> ProductCursor.decode("not-a-cursor"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_REQUEST);
+        String priceCursor = new ProductCursor("abc", 1L).encode();
+        assertThatThrownBy(() -> ProductSort.PRICE_ASC.probe(ProductCursor.decode(priceCursor)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_REQUEST);
+    }
+
+    // 커서를 따라 마지막 페이지까지 수집
+    private List<ProductResponse> walk(String query, ProductSort sort) {
+        List<ProductResponse> seen = new ArrayList<>();
+        ProductCursor after = null;
+        for (int guard = 0; guard <= products.size(); guard++) {
+            ProductPage page = index.search(query, sort, after, PAGE_SIZE);
+            assertThat(page.products()).hasSizeLessThanOrEqualTo(PAGE_SIZE);
+            seen.addAll(page.products());
+            if (page.nextCursor() == null) {
+                return seen;
+            }
+            after = ProductCursor.decode(page.nextCursor());
+        }
+        throw new AssertionError("cursor did not reach the last page");
+    }
+
+    private List<ProductResponse> expected(String query, ProductSort sort) {
+        String needle = query.trim().toLowerCase(Locale.ROOT);
+        return products.stream()
+                .filter(p -> p.name().toLowerCase(Locale.ROOT).contains(needle)
+                        || (p.description() != null && p.description().toLowerCase(Locale.ROOT).contains(needle)))
+                .sorted(sort.comparator())
+                .toList();
+    }
+}
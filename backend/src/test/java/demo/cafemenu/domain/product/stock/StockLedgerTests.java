@@ -0,0 +1,210 @@
+package demo.cafemenu.domain.product.stock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import demo.cafemenu.domain.order.entity.Order;
+import demo.cafemenu.domain.order.entity.OrderItem;
+import demo.cafemenu.domain.order.entity.OrderStatus;
+import demo.cafemenu.domain.order.repository.OrderRepository;
+import demo.cafemenu.domain.order.service.OrderService;
+import demo.cafemenu.domain.product.stock.StockLedger.ExpiredHold;
+import demo.cafemenu.global.exception.BusinessException;
+import demo.cafemenu.global.exception.ErrorCode;
+import demo.cafemenu.support.Fixtures;
+import demo.cafemenu.support.IntegrationTest;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 한정 재고 원장: CAS 예약은 동시에 몰려도 초과 판매 없음, 롤백되면 예약 취소,
+ * 해제는 커밋 후 예약분까지만, 결제는 hold 만 소진, 마지막 예약 후 TTL 이 지나면 만료 대상
+ * (만료 작업은 테스트 중 돌지 않도록 간격을 길게 두고 expiredHolds 를 직접 확인)
+ */
+@IntegrationTest(properties = {
+        "app.stock.hold-ttl=PT0S",
+        "app.stock.expiry-interval-ms=3600000"
+})
+class StockLedgerTests {
+
+    private static final int STOCK = 10;
+    private static final int BUYERS = 32;
+
+    @Autowired
+    private StockLedger stockLedger;
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private Fixtures fixtures;
+    @Autowired
+    private TransactionTemplate tx;
+
+    private Long productId;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        productId = fixtures.product("stock").getId();
+        userId = fixtures.user("stock").getId();
+        stockLedger.restock(productId, STOCK);
+    }
+
+    @Test
+    void concurrentReservesNeverOversell() throws Exception {
+        AtomicInteger soldOut = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(BUYERS);
+        try {
+            List<Future<?>> futures = new ArrayList<>(BUYERS);
+            for (int i = 0; i < BUYERS; i++) {
+                long buyer = 1_000_000L + i;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        stockLedger.reserve(buyer, productId, 1);
+                    } catch (BusinessException e) {
+                        soldOut.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        assertThat(soldOut.get()).isEqualTo(BUYERS - STOCK);
+        assertThat(available()).isZero();
+    }
+
+    @Test
+    void reserveIsUndoneWhenTransactionRollsBack() {
+        tx.executeWithoutResult(status -> {
+            stockLedger.reserve(userId, productId, 4);
+            assertThat(available()).isEqualTo(STOCK - 4);
+            status.setRollbackOnly();
+        });
+
+        assertThat(available()).isEqualTo(STOCK);
+    }
+
+    @Test
+    void failedApplyRollsBackEarlierReservations() {
+        Long other = fixtures.product("stock-other").getId();
+        stockLedger.restock(other, 1);
+        Map<Long, Integer> deltas = new LinkedHashMap<>();
+        deltas.put(productId, 3);
+        deltas.put(other, 2);
+
+        assertThatThrownBy(() -> tx.executeWithoutResult(status -> stockLedger.apply(userId, deltas)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.OUT_OF_STOCK);
+
+        assertThat(available()).isEqualTo(STOCK);
+        assertThat(stockLedger.get(other).available()).isEqualTo(1);
+    }
+
+    @Test
+    void releaseReturnsAtMostTheHeldQuantityAfterCommit() {
+        stockLedger.reserve(userId, productId, 2);
+
+        tx.executeWithoutResult(status -> {
+            stockLedger.releaseAfterCommit(userId, productId, 5);
+            assertThat(available()).isEqualTo(STOCK - 2);
+            status.setRollbackOnly();
+        });
+        assertThat(available()).isEqualTo(STOCK - 2);
+
+        stockLedger.releaseAfterCommit(userId, productId, 5);
+        stockLedger.releaseAfterCommit(userId, productId, 5);
+        assertThat(available()).isEqualTo(STOCK);
+    }
+
+    @Test
+    void consumeKeepsQuantitySoldAndDropsHold() {
+        stockLedger.reserve(userId, productId, 3);
+
+        stockLedger.consumeAfterCommit(userId);
+        stockLedger.releaseAfterCommit(userId, productId, 3);
+
+        assertThat(available()).isEqualTo(STOCK - 3);
+        assertThat(stockLedger.expiredHolds()).doesNotContain(new ExpiredHold(userId, productId));
+    }
+
+    @Test
+    void holdExpiresAfterTtl() throws Exception {
+        stockLedger.reserve(userId, productId, 1);
+        Thread.sleep(5);
+
+        assertThat(stockLedger.expiredHolds()).contains(new ExpiredHold(userId, productId));
+    }
+
+    @Test
+    void restockSubtractsQuantityAlreadyInCarts() {
+        orderService.addOrderItem(userId, productId);
+        orderService.addOrderItem(userId, productId);
+
+        stockLedger.restock(productId, 5);
+        assertThat(available()).isEqualTo(3);
+
+        // 장바구니 보유분이 hold 로 다시 등록되어 빼면 반환됨
+        orderService.removeFromCart(userId, productId);
+        assertThat(available()).isEqualTo(4);
+    }
+
+    @Test
+    void restockOfLimitedProductAppliesDeltaAndKeepsHolds() {
+        stockLedger.reserve(userId, productId, 3);
+
+        stockLedger.restock(productId, STOCK + 2);
+        assertThat(available()).isEqualTo(STOCK - 1);
+
+        // 재지정 전 예약분도 hold 로 남아 있어 빼면 그대로 반환됨
+        stockLedger.releaseAfterCommit(userId, productId, 3);
+        assertThat(available()).isEqualTo(STOCK + 2);
+    }
+
+    @Test
+    void expireHoldRemovesCartLineAndReturnsStock() {
+        Long spare = fixtures.product("stock-spare").getId();
+        orderService.addOrderItem(userId, productId);
+        orderService.addOrderItem(userId, productId);
+        orderService.addOrderItem(userId, spare);
+
+        orderService.expireHold(userId, productId);
+
+        assertThat(available()).isEqualTo(STOCK);
+        List<Order> carts = orderRepository.findWithItemsByUserIdAndStatus(userId, OrderStatus.PENDING);
+        assertThat(carts).hasSize(1);
+        assertThat(carts.get(0).getItems()).extracting(OrderItem::getProductId).containsExactly(spare);
+        assertThat(carts.get(0).getTotalAmount()).isEqualTo(3000);
+    }
+
+    @Test
+    void unlimitedProductsAreNotTracked() {
+        stockLedger.unlimit(productId);
+
+        stockLedger.reserve(userId, productId, 1_000);
+        assertThat(stockLedger.isLimited(productId)).isFalse();
+    }
+
+    private int available() {
+        return stockLedger.get(productId).available();
+    }
+}
@@ -0,0 +1,139 @@
+package demo.cafemenu.domain.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import demo.cafemenu.domain.user.dto.LoginResponse;
+import demo.cafemenu.domain.user.dto.TokenRefreshRequest;
+import demo.cafemenu.domain.user.entity.User;
+import demo.cafemenu.global.exception.BusinessException;
+import demo.cafemenu.global.exception.ErrorCode;
+import demo.cafemenu.global.jwt.JwtTokenProvider;
+import demo.cafemenu.global.security.UserDetailsImpl;
+import demo.cafemenu.support.Fixtures;
+import demo.cafemenu.support.IntegrationTest;
+import io.jsonwebtoken.JwtException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * 리프레시 토큰 회전: 한 번 쓴 토큰은 다시 못 쓰고, 재사용이 감지되면 family 전체 폐기,
+ * 동시에 같은 토큰으로 교환해도 한 요청만 성공, 로그아웃은 리프레시 family 와 액세스 토큰을 함께 폐기
+ */
+@IntegrationTest
+class RefreshTokenRotationTests {
+
+    private static final int RACERS = 8;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+    @Autowired
+    private Fixtures fixtures;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = fixtures.user("refresh");
+    }
+
+    @Test
+    void refreshRotatesTokenAndIssuesUsableAccessToken() {
+        String issued = refreshTokenService.issue(user.getId());
+
+        LoginResponse refreshed = userService.refresh(new TokenRefreshRequest(issued));
+
+        assertThat(refreshed.refreshToken()).isNotEqualTo(issued);
+        UserDetailsImpl principal = (UserDetailsImpl) jwtTokenProvider.authenticate(refreshed.accessToken()).getPrincipal();
+        assertThat(principal.getId()).isEqualTo(user.getId());
+        assertThat(refreshTokenService.rotate(refreshed.refreshToken()).userId()).isEqualTo(user.getId());
+    }
+
+    // 이미 쓴 토큰이 다시 오면 탈취로 보고 그 사이 발급된 토큰까지 family 전체 폐기
+    @Test
+    void reuseRevokesWholeFamily() {
+        String first = refreshTokenService.issue(user.getId());
+        String second = refreshTokenService.rotate(first).refreshToken();
+
+        assertInvalid(first);
+        assertInvalid(second);
+    }
+
+    @Test
+    void reuseDoesNotTouchOtherFamilies() {
+        String stolen = refreshTokenService.issue(user.getId());
+        String otherDevice = refreshTokenService.issue(user.getId());
+        refreshTokenService.rotate(stolen);
+
+        assertInvalid(stolen);
+        assertThat(refreshTokenService.rotate(otherDevice).userId()).isEqualTo(user.getId());
+    }
+
+    @Test
+    void concurrentRotationOfSameTokenSucceedsOnce() throws Exception {
+        String issued = refreshTokenService.issue(user.getId());
+        AtomicInteger rotated = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(RACERS);
+        try {
+            List<Future<?>> futures = new ArrayList<>(RACERS);
+            for (int i = 0; i < RACERS; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        refreshTokenService.rotate(issued);
+                        rotated.incrementAndGet();
+                    } catch (BusinessException e) {
+                        assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_REFRESH_TOKEN);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        assertThat(rotated.get()).isEqualTo(1);
+    }
+
+    @Test
+    void unknownTokenIsRejected() {
+        assertInvalid("not-a-refresh-token");
+    }
+
+    // 이미 검증 캐시에 들어간 액세스 토큰도 로그아웃 후에는 거부
+    @Test
+    void logoutRevokesRefreshFamilyAndAccessToken() {
+        String refresh = refreshTokenService.issue(user.getId());
+        String access = jwtTokenProvider.createAccessToken(user);
+        jwtTokenProvider.authenticate(access);
+
+        userService.logout(refresh, access);
+
+        assertInvalid(refresh);
+        assertThatThrownBy(() -> jwtTokenProvider.authenticate(access))
+                .isInstanceOf(JwtException.class);
+    }
+
+    private void assertInvalid(String refreshToken) {
+        assertThatThrownBy(() -> refreshTokenService.rotate(refreshToken))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_REFRESH_TOKEN);
+    }
+}
@@ -0,0 +1,134 @@
+package demo.cafemenu.global.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import demo.cafemenu.domain.order.entity.Order;
+import demo.cafemenu.domain.order.entity.OrderStatus;
+import demo.cafemenu.domain.order.repository.OrderRepository;
+import demo.cafemenu.domain.user.entity.User;
+import demo.cafemenu.global.jwt.JwtTokenProvider;
+import demo.cafemenu.support.Fixtures;
+import demo.cafemenu.support.IntegrationTest;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+/**
+ * Idempotency-Key 재생: 같은 키 + 같은 요청은 한 번만 실행하고 응답을 재생,
+ * 같은 키로 경로/본문이 다른 요청은 422, 실패한 요청은 저장하지 않아 재시도가 다시 실행
+ */
+@IntegrationTest
+class IdempotencyFilterTests {
+
+    private static final String SEOUL = "{\"shippingAddress\":\"Seoul\",\"shippingPostcode\":\"12345\"}";
+    private static final String BUSAN = "{\"shippingAddress\":\"Busan\",\"shippingPostcode\":\"48000\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private Fixtures fixtures;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    private Long userId;
+    private Long productId;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        User user = fixtures.user("idem");
+        userId = user.getId();
+        productId = fixtures.product("idem").getId();
+        token = jwtTokenProvider.createAccessToken(user);
+    }
+
+    @Test
+    void sameKeyReplaysWithoutRunningTwice() throws Exception {
+        String key = UUID.randomUUID().toString();
+
+        mockMvc.perform(user(post("/api/user/item/" + productId), key))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+        mockMvc.perform(user(post("/api/user/item/" + productId), key))
+                .andExpect(status().isOk())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"));
+
+        assertThat(pendingQuantity()).isEqualTo(1);
+    }
+
+    @Test
+    void sameKeyOnOtherPathIsRejected() throws Exception {
+        String key = UUID.randomUUID().toString();
+        mockMvc.perform(user(post("/api/user/item/" + productId), key))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(user(delete("/api/user/item/" + productId), key))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errorCode").value("IDEMPOTENCY_KEY_MISMATCH"));
+
+        assertThat(pendingQuantity()).isEqualTo(1);
+    }
+
+    @Test
+    void sameKeyWithOtherBodyIsRejected() throws Exception {
+        mockMvc.perform(user(post("/api/user/item/" + productId), UUID.randomUUID().toString()))
+                .andExpect(status().isOk());
+        String key = UUID.randomUUID().toString();
+        mockMvc.perform(checkout(key, SEOUL))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(checkout(key, BUSAN))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errorCode").value("IDEMPOTENCY_KEY_MISMATCH"));
+        mockMvc.perform(checkout(key, SEOUL))
+                .andExpect(status().isOk())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"));
+
+        List<Order> paid = orderRepository.findByUserIdAndStatus(userId, OrderStatus.PAID);
+        assertThat(paid).hasSize(1);
+        assertThat(paid.get(0).getShippingAddress()).isEqualTo("Seoul");
+    }
+
+    @Test
+    void failedRequestIsNotStoredAndRetryRuns() throws Exception {
+        String key = UUID.randomUUID().toString();
+        mockMvc.perform(checkout(key, SEOUL))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(user(post("/api/user/item/" + productId), UUID.randomUUID().toString()))
+                .andExpect(status().isOk());
+        mockMvc.perform(checkout(key, SEOUL))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+
+        assertThat(orderRepository.findByUserIdAndStatus(userId, OrderStatus.PAID)).hasSize(1);
+    }
+
+    private int pendingQuantity() {
+        List<Order> pendings = orderRepository.findWithItemsByUserIdAndStatus(userId, OrderStatus.PENDING);
+        assertThat(pendings).hasSize(1);
+        return pendings.get(0).findItem(productId).getQuantity();
+    }
+
+    private MockHttpServletRequestBuilder checkout(String key, String body) {
+        return user(post("/api/user/orders/checkout"), key).contentType(MediaType.APPLICATION_JSON).content(body);
+    }
+
+    private MockHttpServletRequestBuilder user(MockHttpServletRequestBuilder request, String key) {
+        return request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .header(IdempotencyFilter.HEADER, key);
+    }
+}
@@ -0,0 +1,100 @@
+package demo.cafemenu.global.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import demo.cafemenu.domain.user.entity.Role;
+import demo.cafemenu.global.security.UserDetailsImpl;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 검증 토큰 캐시: 개수 상한/오래된 항목부터 제거, 만료/무효화 시 개수 반영,
+ * 캐시 항목은 불변이고 인증 객체는 꺼낼 때마다 새로 만듦
+ */
+class VerifiedTokenCacheTests {
+
+    private static final int MAX_ENTRIES = 100;
+
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new VerifiedTokenCache();
+        ReflectionTestUtils.setField(cache, "maxEntries", MAX_ENTRIES);
+    }
+
+    @Test
+    void evictsOldestBeyondMaxEntries() {
+        for (int i = 0; i < MAX_ENTRIES * 3; i++) {
+            cache.put("d" + i, token(i, Long.MAX_VALUE));
+        }
+
+        assertThat(cache.size()).isEqualTo(MAX_ENTRIES);
+        assertThat(cache.get("d0")).isNull();
+        assertThat(cache.get("d" + (MAX_ENTRIES * 3 - 1))).isNotNull();
+    }
+
+    @Test
+    void expiredAndInvalidatedEntriesLeaveTheCount() {
+        cache.put("expired", token(1, System.currentTimeMillis() - 1));
+        cache.put("live", token(2, Long.MAX_VALUE));
+        cache.put("revoked", token(3, Long.MAX_VALUE));
+
+        assertThat(cache.get("expired")).isNull();
+        cache.invalidate("revoked");
+        cache.invalidate("revoked");
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("live")).isNotNull();
+    }
+
+    // 같은 digest 를 다시 넣어도 한 건, 여러 스레드가 넣어도 개수가 맞음
+    @Test
+    void sizeStaysExactUnderConcurrentPuts() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < MAX_ENTRIES / 2; i++) {
+                        cache.put("d" + i, token(i, Long.MAX_VALUE));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        assertThat(cache.size()).isEqualTo(MAX_ENTRIES / 2);
+    }
+
+    @Test
+    void eachLookupBuildsItsOwnAuthentication() {
+        cache.put("d", token(1, Long.MAX_VALUE));
+
+        Authentication first = cache.get("d").toAuthentication();
+        ((AbstractAuthenticationToken) first).setDetails("request-1");
+        Authentication second = cache.get("d").toAuthentication();
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getDetails()).isNull();
+        assertThat(second.getPrincipal()).isSameAs(first.getPrincipal());
+        assertThat(second.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    private static VerifiedToken token(long id, long expiresAtMillis) {
+        UserDetailsImpl principal = new UserDetailsImpl(id, "user" + id + "@test.com", null, Role.ROLE_USER);
+        return new VerifiedToken(principal, List.copyOf(principal.getAuthorities()), "jti-" + id, expiresAtMillis);
+    }
+}
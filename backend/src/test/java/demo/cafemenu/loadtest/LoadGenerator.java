@@ -0,0 +1,307 @@
+package demo.cafemenu.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import demo.cafemenu.CafeMenuApplication;
+import demo.cafemenu.domain.product.entity.Product;
+import demo.cafemenu.domain.product.repository.ProductRepository;
+import demo.cafemenu.loadtest.LoadMix.Action;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 종단 간 부하 생성기 — 내장 H2 로 앱을 띄우고 실제 HTTP 엔드포인트에 시나리오 혼합 부하를 줌.
+ * - 가상 사용자(load.clients 개, 가상 스레드)마다 로그인 후 load.mix 비율로 동작을 반복 (closed loop)
+ *   signup / login / browse(/api/user/beans) / search(?q=) / add / remove / checkout
+ * - 워밍업(load.warmup 초) 이후 load.duration 초 동안 동작별 지연을 HdrHistogram Recorder 로 기록
+ * - 결과: 동작별 처리량 + p50/p95/p99/p999/max 표, load.output 디렉터리에 동작별 .hgrm (HdrHistogram 분포)
+ * 로그인 시도 제한은 한 IP 에서 모든 요청이 나가므로 기본으로 풀어 둠 (load.throttle=true 면 운영 설정 그대로)
+ * 클라이언트 쪽 지연(coordinated omission)은 보정하지 않음 — closed loop 응답 시간 기준
+ * 실행: ./gradlew loadTest -Dload.clients=200 -Dload.duration=60 -Dload.mix=browse:70,add:20,checkout:10
+ */
+public class LoadGenerator {
+
+    private static final int CLIENTS = Integer.getInteger("load.clients", 100);
+    private static final int WARMUP_SECONDS = Integer.getInteger("load.warmup", 10);
+    private static final int DURATION_SECONDS = Integer.getInteger("load.duration", 60);
+    private static final int THINK_MILLIS = Integer.getInteger("load.thinkMs", 0);
+    private static final int USERS = Integer.getInteger("load.users", 1000);
+    private static final int PRODUCTS = Integer.getInteger("load.products", 100);
+    private static final String MIX = System.getProperty("load.mix", LoadMix.DEFAULT);
+    private static final String PROFILES = System.getProperty("load.profiles", "");
+    private static final boolean THROTTLE = Boolean.getBoolean("load.throttle");
+    private static final Path OUTPUT = Path.of(System.getProperty("load.output", "build/loadtest"));
+
+    private static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final LoadMix mix;
+    private final String baseUrl;
+    private final List<Long> productIds;
+    private final HttpClient http;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<Action, Recorder> recorders = new EnumMap<>(Action.class);
+    private final Map<Action, Map<Integer, LongAdder>> statuses = new EnumMap<>(Action.class);
+
+    private volatile boolean running = true;
+
+    LoadGenerator(LoadMix mix, String baseUrl, List<Long> productIds) {
+        this.mix = mix;
+        this.baseUrl = baseUrl;
+        this.productIds = productIds;
+        this.http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        for (Action action : Action.values()) {
+            recorders.put(action, new Recorder(HIGHEST_MICROS, 3));
+            statuses.put(action, new ConcurrentHashMap<>());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadMix mix = LoadMix.parse(MIX);
+        List<String> profiles = new ArrayList<>(List.of("loadtest"));
+        for (String profile : PROFILES.split(",")) {
+            if (!profile.isBlank()) {
+                profiles.add(profile.trim());
+            }
+        }
+
+        List<String> properties = new ArrayList<>(List.of(
+            "server.port=0",
+            "management.server.port=0",
+            "spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1",
+            "spring.jpa.show-sql=false",
+            "spring.output.ansi.enabled=never",
+            "logging.level.org.hibernate.SQL=warn",
+            "logging.level.org.hibernate.orm.jdbc.bind=warn",
+            "logging.level.demo.cafemenu=warn",
+            "app.jwt.secret=loadtest-secret-loadtest-secret-loadtest-secret-0123456789",
+            "loadtest.users=" + USERS,
+            "loadtest.products=" + PRODUCTS));
+        if (!THROTTLE) {
+            properties.add("app.login-throttle.ip.capacity=100000000");
+            properties.add("app.login-throttle.email.capacity=100000000");
+        }
+
+        try (ConfigurableApplicationContext ctx = new SpringApplicationBuilder(CafeMenuApplication.class)
+            .profiles(profiles.toArray(String[]::new))
+            .properties(properties.toArray(String[]::new))
+            .run()) {
+            int port = ((WebServerApplicationContext) ctx).getWebServer().getPort();
+            List<Long> productIds = ctx.getBean(ProductRepository.class).findAll().stream()
+                .map(Product::getId).toList();
+
+            System.out.printf("%nLoad: %d clients, %ds warmup + %ds, think %dms, profiles %s%nMix: %s%n",
+                CLIENTS, WARMUP_SECONDS, DURATION_SECONDS, THINK_MILLIS, profiles, mix);
+            new LoadGenerator(mix, "http://localhost:" + port, productIds).run();
+        }
+    }
+
+    void run() throws IOException, InterruptedException {
+        Map<Action, Histogram> results = new EnumMap<>(Action.class);
+        long measuredNanos;
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            // try-with-resources 의 close 는 세션이 끝나길 기다리므로 종료 신호는 블록 안에서
+            try {
+                for (int c = 0; c < CLIENTS; c++) {
+                    clients.submit(this::session);
+                }
+
+                Thread.sleep(TimeUnit.SECONDS.toMillis(WARMUP_SECONDS));
+                recorders.values().forEach(Recorder::reset);
+                statuses.values().forEach(Map::clear);
+
+                long started = System.nanoTime();
+                Thread.sleep(TimeUnit.SECONDS.toMillis(DURATION_SECONDS));
+                recorders.forEach((action, recorder) -> results.put(action, recorder.getIntervalHistogram()));
+                measuredNanos = System.nanoTime() - started;
+            } finally {
+                running = false;
+            }
+        }
+        report(results, measuredNanos / 1e9);
+    }
+
+    // 가상 사용자 한 명: 시드 사용자로 로그인 후 mix 비율대로 반복
+    private void session() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Session session = new Session();
+        login(session, random);
+
+        while (running) {
+            Action action = mix.next(random);
+            // 담긴 상품이 없으면 빼기/결제 대신 담기
+            if ((action == Action.REMOVE || action == Action.CHECKOUT) && session.cart.isEmpty()) {
+                action = Action.ADD;
+            }
+            switch (action) {
+                case SIGNUP -> signup();
+                case LOGIN -> login(session, random);
+                case BROWSE -> send(Action.BROWSE, get("/api/user/beans", session.token));
+                case SEARCH -> send(Action.SEARCH, get("/api/user/beans?size=20&q="
+                    + URLEncoder.encode("product " + random.nextInt(10), StandardCharsets.UTF_8), session.token));
+                case ADD -> add(session, random);
+                case REMOVE -> remove(session, random);
+                case CHECKOUT -> checkout(session);
+            }
+            if (THINK_MILLIS > 0) {
+                try {
+                    Thread.sleep(THINK_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void signup() {
+        String email = "signup-" + UUID.randomUUID() + "@test.com";
+        send(Action.SIGNUP, post("/api/user/signup", null,
+            "{\"email\":\"" + email + "\",\"password\":\"" + LoadTestDataInitializer.PASSWORD
+                + "\",\"name\":\"load\"}"));
+    }
+
+    private void login(Session session, ThreadLocalRandom random) {
+        String email = LoadTestDataInitializer.email(random.nextInt(USERS));
+        HttpResponse<String> response = send(Action.LOGIN, post("/api/user/login", null,
+            "{\"email\":\"" + email + "\",\"password\":\"" + LoadTestDataInitializer.PASSWORD + "\"}"));
+        if (response != null && response.statusCode() == 200) {
+            try {
+                JsonNode body = objectMapper.readTree(response.body());
+                session.token = body.get("accessToken").asText();
+                session.cart.clear(); // 다른 사용자로 바뀌었으므로 장바구니 추적도 초기화
+            } catch (IOException e) {
+                // 토큰을 못 읽으면 이전 토큰으로 계속
+            }
+        }
+    }
+
+    private void add(Session session, ThreadLocalRandom random) {
+        Long productId = productIds.get(random.nextInt(productIds.size()));
+        HttpResponse<String> response = send(Action.ADD, post("/api/user/item/" + productId, session.token, null));
+        if (response != null && response.statusCode() < 300) {
+            session.cart.add(productId);
+        }
+    }
+
+    private void remove(Session session, ThreadLocalRandom random) {
+        Long productId = session.cart.remove(random.nextInt(session.cart.size()));
+        send(Action.REMOVE, request("/api/user/item/" + productId, session.token).DELETE().build());
+    }
+
+    private void checkout(Session session) {
+        HttpResponse<String> response = send(Action.CHECKOUT, post("/api/user/orders/checkout", session.token,
+            "{\"shippingAddress\":\"Seoul\",\"shippingPostcode\":\"12345\"}"));
+        if (response != null && response.statusCode() < 300) {
+            session.cart.clear();
+        }
+    }
+
+    private HttpResponse<String> send(Action action, HttpRequest request) {
+        long start = System.nanoTime();
+        HttpResponse<String> response = null;
+        int status;
+        try {
+            response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            status = response.statusCode();
+        } catch (IOException e) {
+            status = -1; // 연결 실패/타임아웃
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        long micros = (System.nanoTime() - start) / 1_000;
+        recorders.get(action).recordValue(Math.min(micros, HIGHEST_MICROS));
+        statuses.get(action).computeIfAbsent(status, s -> new LongAdder()).increment();
+        return response;
+    }
+
+    private HttpRequest get(String path, String token) {
+        return request(path, token).GET().build();
+    }
+
+    private HttpRequest post(String path, String token, String json) {
+        return request(path, token)
+            .POST(json == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(json))
+            .build();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .header("Content-Type", "application/json")
+            .timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private void report(Map<Action, Histogram> results, double seconds) throws IOException {
+        Files.createDirectories(OUTPUT);
+        Histogram all = new Histogram(HIGHEST_MICROS, 3);
+
+        System.out.printf("%n%-10s %9s %9s %9s %9s %9s %9s %9s  %s%n",
+            "action", "count", "req/s", "p50 ms", "p95 ms", "p99 ms", "p999 ms", "max ms", "status");
+        for (Map.Entry<Action, Histogram> entry : results.entrySet()) {
+            Histogram histogram = entry.getValue();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            all.add(histogram);
+            String name = entry.getKey().name().toLowerCase(Locale.ROOT);
+            printRow(name, histogram, seconds, new TreeMap<>(statuses.get(entry.getKey())).toString());
+            writeDistribution(name, histogram);
+        }
+        printRow("all", all, seconds, "");
+        writeDistribution("all", all);
+        System.out.printf("%nHdrHistogram distributions (ms): %s%n", OUTPUT.toAbsolutePath());
+    }
+
+    private static void printRow(String name, Histogram h, double seconds, String statuses) {
+        System.out.printf("%-10s %9d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f  %s%n",
+            name, h.getTotalCount(), h.getTotalCount() / seconds,
+            h.getValueAtPercentile(50) / 1e3, h.getValueAtPercentile(95) / 1e3,
+            h.getValueAtPercentile(99) / 1e3, h.getValueAtPercentile(99.9) / 1e3,
+            h.getMaxValue() / 1e3, statuses);
+    }
+
+    private static void writeDistribution(String name, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(OUTPUT.resolve(name + ".hgrm")))) {
+            histogram.outputPercentileDistribution(out, 1000.0); // µs → ms
+        }
+    }
+
+    private static final class Session {
+        private String token;
+        private final List<Long> cart = new ArrayList<>();
+    }
+}
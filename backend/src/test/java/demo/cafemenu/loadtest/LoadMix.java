@@ -0,0 +1,70 @@
+package demo.cafemenu.loadtest;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 시나리오 비율 — "browse:60,add:15,remove:10,checkout:5,login:7,signup:3" 형식 (가중치, 합이 100 일 필요 없음)
+ */
+final class LoadMix {
+
+    enum Action { SIGNUP, LOGIN, BROWSE, SEARCH, ADD, REMOVE, CHECKOUT }
+
+    static final String DEFAULT = "browse:50,search:10,add:15,remove:10,checkout:5,login:7,signup:3";
+
+    private final Action[] actions;
+    private final int[] cumulative;
+    private final int total;
+
+    private LoadMix(Map<Action, Integer> weights) {
+        this.actions = weights.keySet().toArray(Action[]::new);
+        this.cumulative = new int[actions.length];
+        int sum = 0;
+        for (int i = 0; i < actions.length; i++) {
+            sum += weights.get(actions[i]);
+            cumulative[i] = sum;
+        }
+        if (sum <= 0) {
+            throw new IllegalArgumentException("load.mix must have at least one positive weight");
+        }
+        this.total = sum;
+    }
+
+    static LoadMix parse(String spec) {
+        Map<Action, Integer> weights = new EnumMap<>(Action.class);
+        for (String part : spec.split(",")) {
+            String[] kv = part.trim().split(":");
+            if (kv.length != 2) {
+                throw new IllegalArgumentException("Invalid load.mix entry: " + part);
+            }
+            weights.put(Action.valueOf(kv[0].trim().toUpperCase(Locale.ROOT)), Integer.parseInt(kv[1].trim()));
+        }
+        return new LoadMix(weights);
+    }
+
+    Action next(ThreadLocalRandom random) {
+        int roll = random.nextInt(total);
+        for (int i = 0; i < cumulative.length; i++) {
+            if (roll < cumulative[i]) {
+                return actions[i];
+            }
+        }
+        return actions[actions.length - 1];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        int previous = 0;
+        for (int i = 0; i < actions.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(actions[i].name().toLowerCase(Locale.ROOT)).append(':').append(cumulative[i] - previous);
+            previous = cumulative[i];
+        }
+        return sb.toString();
+    }
+}
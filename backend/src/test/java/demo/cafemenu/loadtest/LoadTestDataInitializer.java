@@ -0,0 +1,60 @@
+package demo.cafemenu.loadtest;
+
+import demo.cafemenu.domain.product.entity.Product;
+import demo.cafemenu.domain.product.repository.ProductRepository;
+import demo.cafemenu.domain.user.entity.Role;
+import demo.cafemenu.domain.user.entity.User;
+import demo.cafemenu.domain.user.reposiitory.UserRepository;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 부하 테스트용 더미 데이터 (loadtest 프로필, DataInitializer 와 같은 방식).
+ * - 사용자 loadtest.users 명: load{n}@test.com / PASSWORD
+ *   비밀번호 해시는 한 번만 계산해 모두 같은 값 사용 (BCrypt N 번 반복 방지, 로그인 검증 비용은 동일)
+ * - 상품 loadtest.products 개
+ */
+@Component
+@Profile("loadtest")
+@RequiredArgsConstructor
+public class LoadTestDataInitializer implements CommandLineRunner {
+
+    public static final String PASSWORD = "Load1234!";
+
+    private final UserRepository userRepository;
+    private final ProductRepository productRepository;
+    private final PasswordEncoder passwordEncoder;
+
+    @Value("${loadtest.users:1000}")
+    private int users;
+
+    @Value("${loadtest.products:100}")
+    private int products;
+
+    public static String email(int n) {
+        return "load" + n + "@test.com";
+    }
+
+    @Override
+    public void run(String... args) {
+        String hash = passwordEncoder.encode(PASSWORD);
+        List<User> seededUsers = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            seededUsers.add(User.builder().email(email(i)).password(hash).name("load" + i).role(Role.ROLE_USER).build());
+        }
+        userRepository.saveAll(seededUsers);
+
+        List<Product> seededProducts = new ArrayList<>(products);
+        for (int i = 0; i < products; i++) {
+            seededProducts.add(Product.builder().name("부하 상품 " + i).price(1000 + i * 10)
+                .description("load test product " + i).build());
+        }
+        productRepository.saveAll(seededProducts);
+    }
+}
@@ -0,0 +1,38 @@
+package demo.cafemenu.support;
+
+import demo.cafemenu.domain.product.entity.Product;
+import demo.cafemenu.domain.product.repository.ProductRepository;
+import demo.cafemenu.domain.user.entity.User;
+import demo.cafemenu.domain.user.reposiitory.UserRepository;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 테스트용 사용자/상품 생성 (@IntegrationTest 에 포함).
+ * 여러 테스트 클래스가 같은 DB 를 쓰므로 이메일/상품명은 JVM 전역 일련번호로 겹치지 않게 만듦
+ */
+@RequiredArgsConstructor
+public class Fixtures {
+
+    private static final AtomicInteger SEQ = new AtomicInteger();
+
+    private final UserRepository userRepository;
+    private final ProductRepository productRepository;
+
+    // {prefix}{n}@test.com 일반 사용자
+    public User user(String prefix) {
+        int seq = SEQ.incrementAndGet();
+        return userRepository.save(User.builder()
+                .email(prefix + seq + "@test.com").password("x").name(prefix + seq).build());
+    }
+
+    // {prefix}-{n} 상품 (설명은 prefix)
+    public Product product(String prefix, int price) {
+        return productRepository.save(Product.builder()
+                .name(prefix + "-" + SEQ.incrementAndGet()).price(price).description(prefix).build());
+    }
+
+    public Product product(String prefix) {
+        return product(prefix, 3000);
+    }
+}
@@ -0,0 +1,31 @@
+package demo.cafemenu.support;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.annotation.AliasFor;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 스프링 컨텍스트를 띄우는 테스트 공통 설정: test 프로필(application-test.yml) + MockMvc + Fixtures.
+ * 모든 클래스가 같은 구성을 쓰므로 properties 가 같으면 컨텍스트를 한 번만 띄움 —
+ * properties 에는 그 테스트에만 필요한 값(write-behind, hold TTL 등)만 둘 것
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@Import(Fixtures.class)
+public @interface IntegrationTest {
+
+    /** 이 테스트에만 필요한 설정 (다르면 별도 컨텍스트) */
+    @AliasFor(annotation = SpringBootTest.class, attribute = "properties")
+    String[] properties() default {};
+}
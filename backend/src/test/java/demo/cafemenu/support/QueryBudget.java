@@ -0,0 +1,23 @@
+package demo.cafemenu.support;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * 테스트 메서드 본문에서 실행될 수 있는 SQL 문장 수 상한.
+ * 초과하면 실패 — @BeforeEach 의 데이터 준비는 집계하지 않음.
+ * 예산은 데이터 건수와 무관한 상수로 잡아, 행마다 조회하는 패턴(N+1)이 생기면 바로 드러나게 함
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+
+    /** 허용하는 최대 문장 수 */
+    int value();
+}
@@ -0,0 +1,39 @@
+package demo.cafemenu.support;
+
+import demo.cafemenu.global.query.QueryCounter;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * @QueryBudget 검사: 테스트 본문 전후의 QueryCounter 차이를 예산과 비교.
+ * MockMvc 요청은 테스트 스레드에서 처리되므로 필터/시큐리티/서비스/커밋 후 훅의 문장이 모두 포함됨
+ */
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(context.getUniqueId(), QueryCounter.current());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        Long start = context.getStore(NAMESPACE).remove(context.getUniqueId(), Long.class);
+        if (start == null) {
+            return;
+        }
+        long used = QueryCounter.current() - start;
+        int budget = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), QueryBudget.class)
+                .map(QueryBudget::value)
+                .orElseThrow();
+        if (used > budget) {
+            throw new AssertionFailedError(String.format("%s: SQL %d건 실행 — 예산 %d건 초과",
+                    context.getDisplayName(), used, budget), budget, used);
+        }
+    }
+}
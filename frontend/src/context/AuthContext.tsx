@@ -38,7 +38,10 @@ export function AuthProvider({ children }: { children: ReactNode }) {
       const token = localStorage.getItem("token");
       const userEmail = localStorage.getItem("userEmail");
       
-      if (token && tokenUtils.isValid(token)) {
+      const refreshToken = localStorage.getItem("refreshToken");
+
+      // 액세스 토큰이 만료돼도 리프레시 토큰이 있으면 세션 유지 (다음 API 호출 때 재발급)
+      if (token && (tokenUtils.isValid(token) || refreshToken)) {
         const decoded = tokenUtils.getUserInfo(token);
         if (decoded) {
           const normalizedUser: UserInfo = {
@@ -67,6 +70,7 @@ export function AuthProvider({ children }: { children: ReactNode }) {
 
       if (res?.accessToken) {
         localStorage.setItem("token", res.accessToken);
+        localStorage.setItem("refreshToken", res.refreshToken);
         localStorage.setItem("userEmail", res.email);
 
         const nextUser: UserInfo = {
@@ -100,8 +104,12 @@ export function AuthProvider({ children }: { children: ReactNode }) {
     // 현재 사용자 역할 저장 (상태 초기화 전에)
     const currentUserRole = user?.role;
     
+    // 서버 측 토큰 폐기 (실패해도 로그아웃은 진행)
+    void authApi.logout();
+
     // 클라이언트 데이터 정리
     localStorage.removeItem("token");
+    localStorage.removeItem("refreshToken");
     localStorage.removeItem("userEmail");
     localStorage.removeItem("addedProducts");
     
@@ -88,6 +88,7 @@ export interface CheckoutRequest {
 // 로그인 응답 인터페이스
 export interface LoginResponse {
   accessToken: string;
+  refreshToken: string;
   tokenType: string;
   role: string;
   userId: number;
@@ -163,16 +164,52 @@ export const tokenUtils = {
   },
 };
 
+// 진행 중인 토큰 재발급 (동시에 여러 요청이 만료를 만나도 재발급은 한 번만)
+let refreshing: Promise<string | null> | null = null;
+
+// 리프레시 토큰으로 액세스 토큰 재발급 (비밀번호 재로그인 없이)
+export function refreshAccessToken(): Promise<string | null> {
+  if (typeof window === 'undefined') return Promise.resolve(null);
+  const refreshToken = localStorage.getItem('refreshToken');
+  if (!refreshToken) return Promise.resolve(null);
+
+  if (!refreshing) {
+    refreshing = fetch(`${API_BASE_URL}/api/user/token/refresh`, {
+      method: 'POST',
+      headers: { 'Content-Type': 'application/json' },
+      body: JSON.stringify({ refreshToken }),
+    })
+      .then(async (response) => {
+        if (!response.ok) {
+          localStorage.removeItem('refreshToken');
+          return null;
+        }
+        const data: LoginResponse = await response.json();
+        localStorage.setItem('token', data.accessToken);
+        localStorage.setItem('refreshToken', data.refreshToken);
+        return data.accessToken;
+      })
+      .catch(() => null)
+      .finally(() => {
+        refreshing = null;
+      });
+  }
+  return refreshing;
+}
+
 // 기본 API 요청 함수
-export async function apiRequest<T>(endpoint: string, options: RequestInit = {}): Promise<T> {
+export async function apiRequest<T>(endpoint: string, options: RequestInit = {}, retried = false): Promise<T> {
   const url = `${API_BASE_URL}${endpoint}`;
 
   const defaultHeaders: Record<string, string> = {
     'Content-Type': 'application/json',
   };
 
-  // JWT 토큰이 있으면 Authorization 헤더에 추가
-  const token = typeof window !== 'undefined' ? localStorage.getItem('token') : null;
+  // JWT 토큰이 있으면 Authorization 헤더에 추가 (만료됐으면 먼저 재발급)
+  let token = typeof window !== 'undefined' ? localStorage.getItem('token') : null;
+  if (token && !tokenUtils.isValid(token)) {
+    token = await refreshAccessToken();
+  }
   if (token && tokenUtils.isValid(token)) {
     defaultHeaders['Authorization'] = `Bearer ${token}`;
   }
@@ -191,9 +228,15 @@ export async function apiRequest<T>(endpoint: string, options: RequestInit = {})
     if (!response.ok) {
       let errorMessage = `HTTP error! status: ${response.status}`;
       
-      // 401 에러 시 토큰 삭제 및 로그인 페이지로 리다이렉트
+      // 401 에러 시 한 번만 재발급 후 재시도
+      if (response.status === 401 && !retried && (await refreshAccessToken())) {
+        return apiRequest<T>(endpoint, options, true);
+      }
+
+      // 재발급도 실패하면 토큰 삭제 및 로그인 페이지로 리다이렉트
       if (response.status === 401) {
         localStorage.removeItem('token');
+        localStorage.removeItem('refreshToken');
         localStorage.removeItem('userEmail');
         localStorage.removeItem('addedProducts');
         errorMessage = 'Session expired. Please log in again.';
@@ -251,6 +294,20 @@ export const authApi = {
     });
   },
 
+  // 로그아웃 (리프레시 토큰 + 현재 액세스 토큰 폐기)
+  logout: async (): Promise<void> => {
+    const refreshToken = localStorage.getItem('refreshToken');
+    const token = localStorage.getItem('token');
+    await fetch(`${API_BASE_URL}/api/user/logout`, {
+      method: 'POST',
+      headers: {
+        'Content-Type': 'application/json',
+        ...(token ? { Authorization: `Bearer ${token}` } : {}),
+      },
+      body: JSON.stringify({ refreshToken }),
+    }).catch(() => undefined);
+  },
+
   // 사용자 회원가입
   signup: async (userData: SignupRequest): Promise<ApiResponse<UserInfo>> => {
     return await wrappedApiRequest<UserInfo>('/api/user/signup', {